@@ -0,0 +1,637 @@
+package com.example.archunitrules.architecture;
+
+import com.example.archunitrules.architecture.cycles.SliceCycleRules;
+import com.example.archunitrules.architecture.index.ClassIndex;
+import com.example.archunitrules.architecture.layers.LayeredArchitecture;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.*;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.validation.Valid;
+import lombok.Generated;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Controller;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.tngtech.archunit.base.DescribedPredicate.anyElementThat;
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.resideInAPackage;
+import static com.tngtech.archunit.core.domain.properties.CanBeAnnotated.Predicates.annotatedWith;
+import static com.tngtech.archunit.core.domain.properties.CanBeAnnotated.Predicates.metaAnnotatedWith;
+import static com.example.archunitrules.architecture.profiling.CountingCondition.counted;
+import static com.tngtech.archunit.lang.conditions.ArchConditions.*;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.*;
+
+public class ArchitectureRules {
+    public static final String DEFAULT_ROOT_PACKAGE = "com.example.archunitrules";
+    public static final String BASE_EXCEPTION = "com.example.archunitrules.common.exception.BaseParametrizedException";
+
+    private static final ClassSelector SERVICES = ClassSelector.resideInAPackage("..service");
+    private static final ClassSelector SERVICE_IMPLEMENTATIONS = ClassSelector.resideInAPackage("..service.impl");
+    private static final ClassSelector REQUESTS = ClassSelector.resideInAPackage("..controller.request");
+    private static final ClassSelector EXCEPTIONS = ClassSelector.resideInAPackage("..exception");
+    private static final ClassSelector CONTROLLERS = ClassSelector.resideInAPackage("..controller");
+    private static final ClassSelector REPOSITORIES = ClassSelector.resideInAPackage("..repository");
+    private static final ClassSelector CUSTOM_REPOSITORIES = ClassSelector.resideInAPackage("..repository.custom");
+    private static final ClassSelector ENUMERATIONS = ClassSelector.resideInAPackage("..enumeration");
+    private static final ClassSelector RESPONSES = ClassSelector.resideInAPackage("..controller.response");
+    private static final ClassSelector ENTITY_PACKAGE = ClassSelector.resideInAPackage("..entity");
+    private static final ClassSelector MAPPERS = ClassSelector.resideInAPackage("..mapper");
+    private static final ClassSelector UTILITIES = ClassSelector.resideInAPackage("..util");
+    private static final ClassSelector CONSTANTS = ClassSelector.resideInAPackage("..constant");
+    private static final ClassSelector CONTROLLER_PACKAGES = ClassSelector.resideInAPackage("..controller..");
+    private static final ClassSelector COMPONENTS = ClassSelector.metaAnnotatedWith(Component.class);
+    private static final ClassSelector JPA_REPOSITORIES = ClassSelector.assignableTo(JpaRepository.class);
+    private static final ClassSelector ENTITIES = ClassSelector.annotatedWith(Entity.class);
+
+    private static final List<RuleDefinition> DEFINITIONS = List.of(
+            new RuleDefinition("serviceInterfacesAreProperlyNamed", RuleScope.AFFECTED_CLASSES, SERVICES, ArchitectureRules::serviceInterfacesAreProperlyNamed),
+            new RuleDefinition("serviceImplementationsAreProperlyNamed", RuleScope.AFFECTED_CLASSES, SERVICE_IMPLEMENTATIONS, ArchitectureRules::serviceImplementationsAreProperlyNamed),
+            new RuleDefinition("layersAreAccessedFromTopToBottomOnly", RuleScope.ALL_CLASSES, null, ArchitectureRules::layersAreAccessedFromTopToBottomOnly),
+            new RuleDefinition("requestsWithValidationAnnotationsAreProperlyValidated", RuleScope.AFFECTED_CLASSES, REQUESTS, ArchitectureRules::requestsWithValidationAnnotationsAreProperlyValidated),
+            new RuleDefinition("allExceptionsHaveHandlers", RuleScope.AFFECTED_CLASSES, EXCEPTIONS, ArchitectureRules::allExceptionsHaveHandlers),
+            new RuleDefinition("controllerNamesHaveProperPostfix", RuleScope.AFFECTED_CLASSES, CONTROLLERS, ArchitectureRules::controllerNamesHaveProperPostfix),
+            new RuleDefinition("repositoryNamesHaveProperPostfix", RuleScope.AFFECTED_CLASSES, REPOSITORIES, ArchitectureRules::repositoryNamesHaveProperPostfix),
+            new RuleDefinition("customRepositoryNamesHaveProperPostfix", RuleScope.AFFECTED_CLASSES, CUSTOM_REPOSITORIES, ArchitectureRules::customRepositoryNamesHaveProperPostfix),
+            new RuleDefinition("enumerationPackageHasEnumsOnly", RuleScope.AFFECTED_CLASSES, ENUMERATIONS, ArchitectureRules::enumerationPackageHasEnumsOnly),
+            new RuleDefinition("requestDtosHasProperNamesAndAreRecords", RuleScope.AFFECTED_CLASSES, REQUESTS, ArchitectureRules::requestDtosHasProperNamesAndAreRecords),
+            new RuleDefinition("responseDtosHasProperNamesAndAreRecords", RuleScope.AFFECTED_CLASSES, RESPONSES, ArchitectureRules::responseDtosHasProperNamesAndAreRecords),
+            new RuleDefinition("controllersHavePathField", RuleScope.AFFECTED_CLASSES, CONTROLLERS, ArchitectureRules::controllersHavePathField),
+            new RuleDefinition("controllerPathFieldsArePublicStaticFinalStrings", RuleScope.AFFECTED_CLASSES, CONTROLLERS, ArchitectureRules::controllerPathFieldsArePublicStaticFinalStrings),
+            new RuleDefinition("allServicesMustBeAnnotatedWithServiceAnnotations", RuleScope.AFFECTED_CLASSES, SERVICE_IMPLEMENTATIONS, ArchitectureRules::allServicesMustBeAnnotatedWithServiceAnnotations),
+            new RuleDefinition("allControllersMustBeMetaAnnotatedWithControllerAnnotations", RuleScope.AFFECTED_CLASSES, CONTROLLERS, ArchitectureRules::allControllersMustBeMetaAnnotatedWithControllerAnnotations),
+            new RuleDefinition("allEntitiesMustBeAnnotatedWithEntityAnnotations", RuleScope.AFFECTED_CLASSES, ENTITY_PACKAGE, ArchitectureRules::allEntitiesMustBeAnnotatedWithEntityAnnotations),
+            new RuleDefinition("mapperToEntityMethodsHaveProperNames", RuleScope.AFFECTED_CLASSES, MAPPERS, ArchitectureRules::mapperToEntityMethodsHaveProperNames),
+            new RuleDefinition("mapperRequestArgumentsHaveProperNames", RuleScope.AFFECTED_CLASSES, MAPPERS, ArchitectureRules::mapperRequestArgumentsHaveProperNames),
+            new RuleDefinition("mapperToResponseMethodsHaveProperNames", RuleScope.AFFECTED_CLASSES, MAPPERS, ArchitectureRules::mapperToResponseMethodsHaveProperNames),
+            new RuleDefinition("utilityMethodsAreStatic", RuleScope.AFFECTED_CLASSES, UTILITIES, ArchitectureRules::utilityMethodsAreStatic),
+            new RuleDefinition("utilityClassesHaveOnlyPrivateConstructors", RuleScope.AFFECTED_CLASSES, UTILITIES, ArchitectureRules::utilityClassesHaveOnlyPrivateConstructors),
+            new RuleDefinition("constantClassesHaveNoMethods", RuleScope.AFFECTED_CLASSES, CONSTANTS, ArchitectureRules::constantClassesHaveNoMethods),
+            new RuleDefinition("constantFieldsArePublicStaticFinal", RuleScope.AFFECTED_CLASSES, CONSTANTS, ArchitectureRules::constantFieldsArePublicStaticFinal),
+            new RuleDefinition("componentAnnotatedFieldsArePrivateAndFinal", RuleScope.AFFECTED_CLASSES, COMPONENTS, ArchitectureRules::componentAnnotatedFieldsArePrivateAndFinal),
+            new RuleDefinition("thereAreNoTopLevelLayerPackages", RuleScope.AFFECTED_CLASSES, null, ArchitectureRules::thereAreNoTopLevelLayerPackages),
+            new RuleDefinition("repositoryMethodsReturnOptionalsOrCollections", RuleScope.AFFECTED_CLASSES, JPA_REPOSITORIES, ArchitectureRules::repositoryMethodsReturnOptionalsOrCollections),
+            new RuleDefinition("pageableRepositoryMethodsTakePageableLast", RuleScope.AFFECTED_CLASSES, JPA_REPOSITORIES, ArchitectureRules::pageableRepositoryMethodsTakePageableLast),
+            new RuleDefinition("noCircularDependencies", RuleScope.ALL_CLASSES, null, ArchitectureRules::noCircularDependencies),
+            new RuleDefinition("noEntitiesInControllers", RuleScope.AFFECTED_CLASSES, CONTROLLER_PACKAGES, ArchitectureRules::noEntitiesInControllers),
+            new RuleDefinition("fieldInjectionNotUsed", RuleScope.AFFECTED_CLASSES, null, ArchitectureRules::fieldInjectionNotUsed),
+            new RuleDefinition("controllerMethodsAreAnnotatedWithOpenapiAnnotations", RuleScope.AFFECTED_CLASSES, null, ArchitectureRules::controllerMethodsAreAnnotatedWithOpenapiAnnotations),
+            new RuleDefinition("entitiesHaveEqualsAndHashCode", RuleScope.AFFECTED_CLASSES, ENTITIES, ArchitectureRules::entitiesHaveEqualsAndHashCode)
+    );
+
+    private final ClassIndex index;
+    private final String rootPackage;
+    private final List<RegisteredRule> registeredRules;
+
+    public ArchitectureRules(ClassIndex index) {
+        this(index, DEFAULT_ROOT_PACKAGE);
+    }
+
+    public ArchitectureRules(ClassIndex index, String rootPackage) {
+        this.index = index;
+        this.rootPackage = rootPackage;
+        this.registeredRules = registerRules();
+    }
+
+    public RegisteredRule rule(String name) {
+        return registeredRules.stream()
+                .filter(registeredRule -> registeredRule.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown architecture rule " + name));
+    }
+
+    public List<RegisteredRule> all() {
+        return registeredRules;
+    }
+
+    public static List<RuleDefinition> definitions() {
+        return DEFINITIONS;
+    }
+
+    private List<RegisteredRule> registerRules() {
+        return DEFINITIONS.stream()
+                .map(definition -> new RegisteredRule(definition.name(), definition.factory().apply(this), definition.scope(), definition.selector()))
+                .toList();
+    }
+
+    public ArchRule serviceInterfacesAreProperlyNamed() {
+        return classes()
+                .that(SERVICES.predicate())
+                .should(counted(haveNameMatching(".+Service$")))
+                .andShould().beInterfaces()
+                .allowEmptyShould(true);
+    }
+
+    public ArchRule serviceImplementationsAreProperlyNamed() {
+        return classes()
+                .that(SERVICE_IMPLEMENTATIONS.predicate())
+                .should(counted(haveNameMatching(".+ServiceImpl$")))
+                .andShould().notBeInterfaces()
+                .andShould(implementCorrespondingServiceInterface())
+                .allowEmptyShould(true);
+    }
+
+    private ArchCondition<JavaClass> implementCorrespondingServiceInterface() {
+        return new ArchCondition<>("implements corresponding service interface") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                String serviceImplementationClassName = item.getSimpleName();
+                String baseName = serviceImplementationClassName.substring(0, serviceImplementationClassName.lastIndexOf("ServiceImpl"));
+                item.getRawInterfaces().stream()
+                        .map(JavaClass::getSimpleName)
+                        .filter(interfaceName -> interfaceName.startsWith(baseName))
+                        .filter(interfaceName -> interfaceName.endsWith("Service"))
+                        .findAny()
+                        .ifPresentOrElse(
+                                interfaceName -> {
+                                },
+                                () -> events.add(SimpleConditionEvent.violated(item, "No corresponding service interface found for " + serviceImplementationClassName))
+                        );
+            }
+        };
+    }
+
+    public ArchRule layersAreAccessedFromTopToBottomOnly() {
+        return LayeredArchitecture.layers()
+                .layer("Controller", "..controller")
+                .layer("Service", "..service")
+                .layer("Repository", "..repository")
+                .mayNotBeAccessedByAnyLayer("Controller")
+                .mayOnlyBeAccessedByLayers("Service", "Controller")
+                .mayOnlyBeAccessedByLayers("Repository", "Service")
+                .rule()
+                .allowEmptyShould(true);
+    }
+
+    public ArchRule requestsWithValidationAnnotationsAreProperlyValidated() {
+        return classes()
+                .that(REQUESTS.predicate())
+                .and().containAnyFieldsThat(isAnnotatedWithAnyValidationAnnotation())
+                .should(counted(beValidatedRequestBodyInCorrespondingController()))
+                .allowEmptyShould(true);
+    }
+
+    private DescribedPredicate<JavaField> isAnnotatedWithAnyValidationAnnotation() {
+        return new DescribedPredicate<>("is annotated with any validation annotation") {
+            @Override
+            public boolean test(JavaField javaField) {
+                return javaField.isAnnotatedWith(annotationFromAnyPackage(
+                        "javax.validation.constraints",
+                        "jakarta.validation.constraints",
+                        "org.hibernate.validator.constraints"
+                ));
+            }
+        };
+    }
+
+    public static DescribedPredicate<JavaAnnotation<?>> annotationFromAnyPackage(String... annotationPackages) {
+        return new DescribedPredicate<>("annotation package equals any of passed packages") {
+            @Override
+            public boolean test(JavaAnnotation<?> javaAnnotation) {
+                return Arrays.stream(annotationPackages)
+                        .anyMatch(annotationPackage -> javaAnnotation.getRawType()
+                                .getPackage().getName().equals(annotationPackage));
+            }
+        };
+    }
+
+    private ArchCondition<JavaClass> beValidatedRequestBodyInCorrespondingController() {
+        return new ArchCondition<>("is validated request body") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                String packageName = item.getPackage().getName();
+                String correspondingControllerPackageName = packageName.substring(0, packageName.lastIndexOf('.'));
+                boolean allRequestBodyParametersAreValidated = index.methodParametersOfRawType(item).stream()
+                        .filter(javaParameter -> javaParameter.getOwner().getOwner().getPackageName().equals(correspondingControllerPackageName))
+                        .filter(javaParameter -> javaParameter.getOwner().getOwner().isMetaAnnotatedWith(Controller.class))
+                        .allMatch(javaParameter -> javaParameter.isAnnotatedWith(RequestBody.class) &&
+                                javaParameter.isAnnotatedWith(Valid.class));
+                if (!allRequestBodyParametersAreValidated) {
+                    events.add(SimpleConditionEvent.violated(item, "Not all request body parameters with validation annotations are validated in controller"));
+                }
+            }
+        };
+    }
+
+    public ArchRule allExceptionsHaveHandlers() {
+        return classes()
+                .that(EXCEPTIONS.predicate())
+                .and(areChildrenOf(BASE_EXCEPTION))
+                .should(counted(haveCorrespondingExceptionHandlerInPackage("..handler")))
+                .allowEmptyShould(true);
+    }
+
+    private DescribedPredicate<JavaClass> areChildrenOf(String superClassName) {
+        return new DescribedPredicate<>("are children of " + superClassName.substring(superClassName.lastIndexOf('.') + 1)) {
+            @Override
+            public boolean test(JavaClass item) {
+                return item.getRawSuperclass()
+                        .filter(javaClass -> javaClass.getName().equals(superClassName))
+                        .isPresent();
+            }
+        };
+    }
+
+    private ArchCondition<JavaClass> haveCorrespondingExceptionHandlerInPackage(String packagePath) {
+        return new ArchCondition<>("has corresponding exception handler in " + packagePath) {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                PackageMatchers packageMatchers = PackageMatchers.of(packagePath);
+                index.exceptionHandlerClassesFor(item).stream()
+                        .filter(javaClass -> packageMatchers.test(javaClass.getPackageName()))
+                        .findAny()
+                        .ifPresentOrElse(
+                                javaClass -> {
+                                },
+                                () -> events.add(SimpleConditionEvent.violated(item, "exception has no corresponding exception handler in " + packagePath))
+                        );
+            }
+        };
+    }
+
+    public ArchRule controllerNamesHaveProperPostfix() {
+        return classes()
+                .that(CONTROLLERS.predicate())
+                .should(counted(haveNameMatching(".+Controller$")))
+                .allowEmptyShould(true);
+    }
+
+    public ArchRule repositoryNamesHaveProperPostfix() {
+        return classes()
+                .that(REPOSITORIES.predicate())
+                .should(counted(haveNameMatching(".+Repository$")))
+                .allowEmptyShould(true);
+    }
+
+    public ArchRule customRepositoryNamesHaveProperPostfix() {
+        return classes()
+                .that(CUSTOM_REPOSITORIES.predicate())
+                .should(counted(haveNameMatching(".+RepositoryCustom$")))
+                .allowEmptyShould(true);
+    }
+
+    public ArchRule enumerationPackageHasEnumsOnly() {
+        return classes()
+                .that(ENUMERATIONS.predicate())
+                .should(counted(beEnums()))
+                .allowEmptyShould(true);
+    }
+
+    public ArchRule requestDtosHasProperNamesAndAreRecords() {
+        return classes()
+                .that(REQUESTS.predicate())
+                .should(counted(beRecords()))
+                .andShould().haveNameMatching(".+Rq$")
+                .allowEmptyShould(true);
+    }
+
+    public ArchRule responseDtosHasProperNamesAndAreRecords() {
+        return classes()
+                .that(RESPONSES.predicate())
+                .and().areNotAnnotatedWith(Generated.class)
+                .should(counted(beRecords()))
+                .andShould().haveNameMatching(".+Response$")
+                .allowEmptyShould(true);
+    }
+
+    public ArchRule controllersHavePathField() {
+        return classes()
+                .that(CONTROLLERS.predicate())
+                .should(counted(haveFieldWithName("PATH")))
+                .allowEmptyShould(true);
+    }
+
+    public ArchRule controllerPathFieldsArePublicStaticFinalStrings() {
+        return fields()
+                .that().areDeclaredInClassesThat(CONTROLLERS.predicate())
+                .and().haveName("PATH")
+                .should(counted(bePublic()))
+                .andShould().beStatic()
+                .andShould().beFinal()
+                .andShould().haveRawType(String.class)
+                .allowEmptyShould(true);
+    }
+
+    private ArchCondition<JavaClass> haveFieldWithName(String fieldName) {
+        return new ArchCondition<>("has field with name " + fieldName) {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                item.getFields().stream()
+                        .filter(javaField -> javaField.getName().equals(fieldName))
+                        .findAny()
+                        .ifPresentOrElse(
+                                javaField -> {
+                                },
+                                () -> events.add(SimpleConditionEvent.violated(item, "no field with name " + fieldName))
+                        );
+            }
+        };
+    }
+
+    public ArchRule allServicesMustBeAnnotatedWithServiceAnnotations() {
+        return classes()
+                .that(SERVICE_IMPLEMENTATIONS.predicate())
+                .should(counted(beAnnotatedWith(Service.class)))
+                .allowEmptyShould(true);
+    }
+
+    public ArchRule allControllersMustBeMetaAnnotatedWithControllerAnnotations() {
+        return classes()
+                .that(CONTROLLERS.predicate())
+                .should(counted(beMetaAnnotatedWith(Controller.class)))
+                .allowEmptyShould(true);
+    }
+
+    public ArchRule allEntitiesMustBeAnnotatedWithEntityAnnotations() {
+        return classes()
+                .that(ENTITY_PACKAGE.predicate())
+                .and().areNotAnnotatedWith(Generated.class)
+                .should(counted(beAnnotatedWith(Entity.class)))
+                .andShould(beAnnotatedWithNamedTableAnnotations())
+                .allowEmptyShould(true);
+    }
+
+    private ArchCondition<JavaClass> beAnnotatedWithNamedTableAnnotations() {
+        return new ArchCondition<>("is annotated with named @Table annotations") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                Stream.of(item)
+                        .map(JavaClass::getAnnotations)
+                        .flatMap(Collection::stream)
+                        .filter(javaAnnotation -> javaAnnotation.getRawType().isEquivalentTo(Table.class))
+                        .map(JavaAnnotation::getProperties)
+                        .map(annotationProperties -> annotationProperties.get("name"))
+                        .findAny()
+                        .map(String.class::cast)
+                        .filter(tableName -> !tableName.isBlank())
+                        .ifPresentOrElse(
+                                tableName -> {
+                                },
+                                () -> events.add(SimpleConditionEvent.violated(item, "entity has no named @Table annotation"))
+                        );
+
+            }
+        };
+    }
+
+    public ArchRule mapperToEntityMethodsHaveProperNames() {
+        return methods()
+                .that().areDeclaredInClassesThat(MAPPERS.predicate())
+                .and().haveRawReturnType(annotatedWith(Entity.class))
+                .should(counted(haveName("toEntity")))
+                .allowEmptyShould(true);
+    }
+
+    public ArchRule mapperRequestArgumentsHaveProperNames() {
+        return methods()
+                .that().areDeclaredInClassesThat(MAPPERS.predicate())
+                .and(haveParameterFromPackage("..controller.request"))
+                .should(counted(haveParameterName("request")))
+                .allowEmptyShould(true);
+    }
+
+    public ArchRule mapperToResponseMethodsHaveProperNames() {
+        return methods()
+                .that().areDeclaredInClassesThat(MAPPERS.predicate())
+                .and().haveRawReturnType(resideInAPackage("..controller.response"))
+                .should(counted(haveName("toResponse")))
+                .allowEmptyShould(true);
+    }
+
+    private DescribedPredicate<JavaMethod> haveParameterFromPackage(String packagePath) {
+        return new DescribedPredicate<>("has parameters from " + packagePath) {
+            @Override
+            public boolean test(JavaMethod javaMethod) {
+                PackageMatchers packageMatchers = PackageMatchers.of(packagePath);
+                return javaMethod.getRawParameterTypes().stream()
+                        .anyMatch(parameterType -> packageMatchers.test(parameterType.getPackageName()));
+            }
+        };
+    }
+
+    private ArchCondition<JavaMethod> haveParameterName(String parameterName) {
+        return new ArchCondition<>("has parameter with name " + parameterName) {
+            @Override
+            public void check(JavaMethod item, ConditionEvents events) {
+                index.parameterNames(item).stream()
+                        .filter(parameterName::equals)
+                        .findAny()
+                        .ifPresentOrElse(
+                                parameter -> {
+                                },
+                                () -> events.add(SimpleConditionEvent.violated(item, "no parameter with name " + parameterName))
+                        );
+            }
+        };
+    }
+
+    public ArchRule utilityMethodsAreStatic() {
+        return methods()
+                .that().areDeclaredInClassesThat(UTILITIES.predicate())
+                .should(counted(beStatic()))
+                .allowEmptyShould(true);
+    }
+
+    public ArchRule utilityClassesHaveOnlyPrivateConstructors() {
+        return classes()
+                .that(UTILITIES.predicate())
+                .should(counted(haveOnlyPrivateConstructors()))
+                .allowEmptyShould(true);
+    }
+
+    public ArchRule constantClassesHaveNoMethods() {
+        return classes()
+                .that(CONSTANTS.predicate())
+                .should(counted(haveOnlyPrivateConstructors()))
+                .andShould(notContainAnyMethodsExceptConstructor())
+                .allowEmptyShould(true);
+    }
+
+    public ArchRule constantFieldsArePublicStaticFinal() {
+        return fields()
+                .that().areDeclaredInClassesThat(CONSTANTS.predicate())
+                .should(counted(bePublic()))
+                .andShould().beStatic()
+                .andShould().beFinal()
+                .andShould().haveNameMatching("^(?!_)[A-Z_]+(?<!_)$")
+                .allowEmptyShould(true);
+    }
+
+    private ArchCondition<JavaClass> notContainAnyMethodsExceptConstructor() {
+        return new ArchCondition<>("does not contain any methods except constructor") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                long numberOfNonConstructorMethods = item.getMethods().stream()
+                        .filter(javaMethod -> !javaMethod.isConstructor())
+                        .count();
+                if (numberOfNonConstructorMethods > 0) {
+                    events.add(SimpleConditionEvent.violated(item, "there are non-constructor methods"));
+                }
+            }
+        };
+    }
+
+    public ArchRule componentAnnotatedFieldsArePrivateAndFinal() {
+        return fields()
+                .that().areDeclaredInClassesThat(COMPONENTS.predicate())
+                .and().haveRawType(metaAnnotatedWith(Component.class))
+                .should(counted(bePrivate()))
+                .andShould().beFinal()
+                .allowEmptyShould(true);
+    }
+
+    public ArchRule thereAreNoTopLevelLayerPackages() {
+        return noClasses().should(counted(resideInAnyPackage(
+                        rootPackage + ".entity",
+                        rootPackage + ".repository",
+                        rootPackage + ".service",
+                        rootPackage + ".mapper",
+                        rootPackage + ".dto",
+                        rootPackage + ".controller",
+                        rootPackage + ".constant",
+                        rootPackage + ".enumeration",
+                        rootPackage + ".exception",
+                        rootPackage + ".mapper",
+                        rootPackage + ".handler"
+                )))
+                .allowEmptyShould(true);
+    }
+
+    public ArchRule repositoryMethodsReturnOptionalsOrCollections() {
+        return methods()
+                .that().areDeclaredInClassesThat(JPA_REPOSITORIES.predicate())
+                .should(counted(haveRawReturnType(thatIsCollection())))
+                .orShould().haveRawReturnType(Optional.class)
+                .orShould().haveRawReturnType(Page.class)
+                .allowEmptyShould(true);
+    }
+
+    public ArchRule pageableRepositoryMethodsTakePageableLast() {
+        return methods()
+                .that().areDeclaredInClassesThat(JPA_REPOSITORIES.predicate())
+                .and().haveRawReturnType(Page.class)
+                .should(counted(haveLastParameterOfType(Pageable.class)))
+                .allowEmptyShould(true);
+    }
+
+    private DescribedPredicate<JavaClass> thatIsCollection() {
+        return new DescribedPredicate<>("is collection") {
+            @Override
+            public boolean test(JavaClass javaClass) {
+                return javaClass.isAssignableTo(Collection.class);
+            }
+        };
+    }
+
+    private ArchCondition<JavaMethod> haveLastParameterOfType(Class<?> expectedType) {
+        return new ArchCondition<>("last parameter of type " + expectedType.getName()) {
+            @Override
+            public void check(JavaMethod item, ConditionEvents events) {
+                List<JavaParameter> parameters = item.getParameters();
+                if (parameters.isEmpty()) {
+                    events.add(SimpleConditionEvent.violated(item, "there are no parameters"));
+                    return;
+                }
+                JavaParameter lastParameter = parameters.getLast();
+                if (!lastParameter.getRawType().isAssignableTo(expectedType)) {
+                    String message = String.format(
+                            "Method %s has last parameter of type %s, but expected %s",
+                            item.getFullName(),
+                            lastParameter.getType().getName(),
+                            expectedType.getName()
+                    );
+                    events.add(SimpleConditionEvent.violated(item, message));
+                }
+            }
+        };
+    }
+
+    public ArchRule noCircularDependencies() {
+        return SliceCycleRules.slicesAreFreeOfCycles(
+                        rootPackage,
+                        resideInAPackage("..request..").or(resideInAPackage("..response..")),
+                        SliceCycleRules.DEFAULT_MAX_CYCLES_PER_COMPONENT
+                )
+                .because("laskdfjlaskfd")
+                .allowEmptyShould(true);
+    }
+
+    public ArchRule noEntitiesInControllers() {
+        return methods()
+                .that().areDeclaredInClassesThat(CONTROLLER_PACKAGES.predicate())
+                .should(counted(notHaveRawReturnType(annotatedWith(Entity.class))))
+                .andShould().notHaveRawReturnType(resideInAPackage("..entity"))
+                .andShould().notHaveRawParameterTypes(anyElementThat(annotatedWith(Entity.class)))
+                .andShould().notHaveRawParameterTypes(anyElementThat(resideInAPackage("..entity")))
+                .because("lasdkflaskf")
+                .allowEmptyShould(true);
+    }
+
+    public ArchRule fieldInjectionNotUsed() {
+        return noFields()
+                .should(counted(beAnnotatedWith(Autowired.class)))
+                .because("blablabla")
+                .allowEmptyShould(true);
+    }
+
+    public ArchRule controllerMethodsAreAnnotatedWithOpenapiAnnotations() {
+        return methods().that().areMetaAnnotatedWith(RequestMapping.class)
+                .should(counted(beAnnotatedWith(Operation.class)))
+                .andShould().beMetaAnnotatedWith(ApiResponse.class)
+                .because("blablabla")
+                .allowEmptyShould(true);
+    }
+
+    public ArchRule entitiesHaveEqualsAndHashCode() {
+        return classes().that(ENTITIES.predicate())
+                .should(counted(haveEqualsMethod()))
+                .andShould(haveHashCodeMethod())
+                .because("https://jpa-buddy.com/blog/hopefully-the-final-article-about-equals-and-hashcode-for-jpa-entities-with-db-generated-ids/")
+                .allowEmptyShould(true);
+    }
+
+    private ArchCondition<JavaClass> haveEqualsMethod() {
+        return new ArchCondition<>("equals method") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                item.tryGetMethod("equals", Object.class)
+                        .filter(javaMethod -> javaMethod.getReturnType().getName().equals("boolean"))
+                        .ifPresentOrElse(
+                                javaMethod -> {},
+                                () -> events.add(SimpleConditionEvent.violated(item, "no equals method"))
+                        );
+            }
+        };
+    }
+
+    private ArchCondition<? super JavaClass> haveHashCodeMethod() {
+        return new ArchCondition<>("hashCode method") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                item.tryGetMethod("hashCode")
+                        .filter(javaMethod -> javaMethod.getReturnType().getName().equals("int"))
+                        .ifPresentOrElse(
+                                javaMethod -> {},
+                                () -> events.add(SimpleConditionEvent.violated(item, "no hashCode method"))
+                        );
+            }
+        };
+    }
+}
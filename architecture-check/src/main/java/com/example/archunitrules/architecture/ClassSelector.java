@@ -0,0 +1,53 @@
+package com.example.archunitrules.architecture;
+
+import com.example.archunitrules.architecture.compact.CompactClassGraph;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
+
+import java.lang.annotation.Annotation;
+import java.util.BitSet;
+
+import static com.tngtech.archunit.lang.conditions.ArchPredicates.are;
+
+public record ClassSelector(
+        Kind kind,
+        String argument,
+        DescribedPredicate<? super JavaClass> predicate
+) {
+    public static ClassSelector resideInAPackage(String packageIdentifier) {
+        return new ClassSelector(Kind.PACKAGE, packageIdentifier, JavaClass.Predicates.resideInAPackage(packageIdentifier));
+    }
+
+    public static ClassSelector annotatedWith(Class<? extends Annotation> annotationType) {
+        return new ClassSelector(Kind.ANNOTATED, annotationType.getName(), are(CanBeAnnotated.Predicates.annotatedWith(annotationType)));
+    }
+
+    public static ClassSelector metaAnnotatedWith(Class<? extends Annotation> annotationType) {
+        return new ClassSelector(Kind.META_ANNOTATED, annotationType.getName(), are(CanBeAnnotated.Predicates.metaAnnotatedWith(annotationType)));
+    }
+
+    public static ClassSelector assignableTo(Class<?> type) {
+        return new ClassSelector(Kind.ASSIGNABLE, type.getName(), are(JavaClass.Predicates.assignableTo(type)));
+    }
+
+    public String description() {
+        return predicate.getDescription();
+    }
+
+    public BitSet select(CompactClassGraph graph) {
+        return switch (kind) {
+            case PACKAGE -> graph.resideInAPackage(argument);
+            case ANNOTATED -> graph.annotatedWith(argument);
+            case META_ANNOTATED -> graph.metaAnnotatedWith(argument);
+            case ASSIGNABLE -> graph.assignableTo(argument);
+        };
+    }
+
+    public enum Kind {
+        PACKAGE,
+        ANNOTATED,
+        META_ANNOTATED,
+        ASSIGNABLE
+    }
+}
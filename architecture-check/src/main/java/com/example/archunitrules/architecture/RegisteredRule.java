@@ -0,0 +1,11 @@
+package com.example.archunitrules.architecture;
+
+import com.tngtech.archunit.lang.ArchRule;
+
+public record RegisteredRule(
+        String name,
+        ArchRule rule,
+        RuleScope scope,
+        ClassSelector selector
+) {
+}
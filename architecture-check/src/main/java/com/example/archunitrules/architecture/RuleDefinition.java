@@ -0,0 +1,13 @@
+package com.example.archunitrules.architecture;
+
+import com.tngtech.archunit.lang.ArchRule;
+
+import java.util.function.Function;
+
+public record RuleDefinition(
+        String name,
+        RuleScope scope,
+        ClassSelector selector,
+        Function<ArchitectureRules, ArchRule> factory
+) {
+}
@@ -0,0 +1,6 @@
+package com.example.archunitrules.architecture;
+
+public enum RuleScope {
+    AFFECTED_CLASSES,
+    ALL_CLASSES
+}
@@ -0,0 +1,124 @@
+package com.example.archunitrules.architecture.cli;
+
+import com.example.archunitrules.architecture.ArchitectureRules;
+import com.example.archunitrules.architecture.RegisteredRule;
+import com.example.archunitrules.architecture.RuleDefinition;
+import com.example.archunitrules.architecture.compact.CompactClassGraph;
+import com.example.archunitrules.architecture.compact.ExternalTypes;
+import com.example.archunitrules.architecture.engine.ImportPlan;
+import com.example.archunitrules.architecture.engine.ParallelRuleEngine;
+import com.example.archunitrules.architecture.engine.RuleEvaluation;
+import com.example.archunitrules.architecture.facts.ClassFactsReader;
+import com.example.archunitrules.architecture.index.ClassIndex;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.core.importer.ImportOption;
+import com.tngtech.archunit.core.importer.Location;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class ArchitectureCheck implements AutoCloseable {
+    private final CheckOptions options;
+    private final ParallelRuleEngine engine;
+
+    public ArchitectureCheck(CheckOptions options) {
+        this.options = options;
+        this.engine = new ParallelRuleEngine(options.parallelism(), options.chunkSize());
+    }
+
+    public List<CodebaseReport> checkAll() {
+        List<CodebaseReport> reports = new ArrayList<>();
+        for (List<Path> codebase : options.codebases()) {
+            reports.add(check(codebase));
+        }
+        return reports;
+    }
+
+    public CodebaseReport check(List<Path> codebase) {
+        long start = System.nanoTime();
+        validate(codebase);
+        List<RuleDefinition> plannedRules = ArchitectureRules.definitions().stream()
+                .filter(rule -> options.includesRule(rule.name()))
+                .toList();
+        int codebaseClasses = -1;
+        ImportPlan importPlan = ImportPlan.fullImport();
+        if (!options.fullImport() && !ImportPlan.needsFullImport(plannedRules)) {
+            CompactClassGraph graph = readGraph(codebase);
+            codebaseClasses = graph.size();
+            importPlan = ImportPlan.create(graph, plannedRules);
+        }
+        JavaClasses classes = importCodebase(codebase, options.rootPackage(), importPlan);
+        List<RuleReport> ruleReports = engine.evaluate(classes, selectedRules(new ClassIndex(classes))).stream()
+                .map(this::toReport)
+                .toList();
+        return new CodebaseReport(
+                codebase.stream().map(Path::toString).collect(Collectors.joining(File.pathSeparator)),
+                codebaseClasses < 0 ? classes.size() : codebaseClasses,
+                classes.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                ruleReports
+        );
+    }
+
+    @Override
+    public void close() {
+        engine.close();
+    }
+
+    private List<RegisteredRule> selectedRules(ClassIndex index) {
+        return new ArchitectureRules(index, options.rootPackage()).all().stream()
+                .filter(rule -> options.includesRule(rule.name()))
+                .toList();
+    }
+
+    private CompactClassGraph readGraph(List<Path> codebase) {
+        CompactClassGraph.Builder builder = CompactClassGraph.builder(new ExternalTypes(ArchitectureCheck.class.getClassLoader()));
+        CodebaseClassFiles.forEach(codebase, options.rootPackage(), bytecode -> builder.add(ClassFactsReader.read(bytecode)));
+        return builder.build();
+    }
+
+    static JavaClasses importCodebase(List<Path> codebase, String rootPackage, ImportPlan importPlan) {
+        ImportOption plannedClassesOnly = location -> {
+            String className = CodebaseClassFiles.className(location.asURI().toString(), rootPackage);
+            return className != null && importPlan.includes(className);
+        };
+        Set<Location> locations = new HashSet<>();
+        for (Path path : codebase) {
+            locations.add(Files.isDirectory(path) ? Location.of(path) : Location.of(URI.create("jar:" + path.toUri() + "!/")));
+        }
+        return new ClassFileImporter()
+                .withImportOption(plannedClassesOnly)
+                .importLocations(locations);
+    }
+
+    static void validate(List<Path> codebase) {
+        for (Path path : codebase) {
+            if (!Files.exists(path)) {
+                throw new IllegalArgumentException("Codebase location does not exist: " + path);
+            }
+        }
+    }
+
+    private RuleReport toReport(RuleEvaluation evaluation) {
+        List<RuleViolation> violations = new ArrayList<>();
+        evaluation.result().handleViolations((Collection<Object> objects, String message) ->
+                violations.add(new RuleViolation(OwningClasses.of(objects), message)));
+        return new RuleReport(
+                evaluation.rule().name(),
+                evaluation.rule().rule().getDescription(),
+                evaluation.selectedClasses(),
+                violations.size(),
+                violations.stream().limit(options.maxViolationsPerRule()).toList()
+        );
+    }
+}
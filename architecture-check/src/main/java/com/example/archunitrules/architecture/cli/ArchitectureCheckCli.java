@@ -0,0 +1,42 @@
+package com.example.archunitrules.architecture.cli;
+
+import java.util.List;
+
+public final class ArchitectureCheckCli {
+    private ArchitectureCheckCli() {
+    }
+
+    public static void main(String[] args) {
+        CheckOptions options;
+        try {
+            options = CheckOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(CheckOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        if (options.watch()) {
+            try (ArchitectureWatch watch = new ArchitectureWatch(options)) {
+                watch.run(System.err);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return;
+        }
+        List<CodebaseReport> reports;
+        try (ArchitectureCheck check = new ArchitectureCheck(options)) {
+            reports = check.checkAll();
+        }
+        new ReportWriter().write(options.format(), options.output(), reports);
+        int violations = 0;
+        for (CodebaseReport report : reports) {
+            System.err.printf(
+                    "%s: %d classes (%d imported), %d violations in %d ms%n",
+                    report.codebase(), report.classes(), report.importedClasses(), report.violationCount(), report.durationMillis()
+            );
+            violations += report.violationCount();
+        }
+        System.exit(violations == 0 ? 0 : 1);
+    }
+}
@@ -0,0 +1,295 @@
+package com.example.archunitrules.architecture.cli;
+
+import com.example.archunitrules.architecture.ArchitectureRules;
+import com.example.archunitrules.architecture.RegisteredRule;
+import com.example.archunitrules.architecture.RuleDefinition;
+import com.example.archunitrules.architecture.RuleScope;
+import com.example.archunitrules.architecture.compact.CompactClassGraph;
+import com.example.archunitrules.architecture.compact.ExternalTypes;
+import com.example.archunitrules.architecture.engine.ImportPlan;
+import com.example.archunitrules.architecture.engine.ParallelRuleEngine;
+import com.example.archunitrules.architecture.engine.RuleEvaluation;
+import com.example.archunitrules.architecture.facts.ClassFacts;
+import com.example.archunitrules.architecture.facts.ClassFactsReader;
+import com.example.archunitrules.architecture.index.ClassIndex;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.EvaluationResult;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+public class ArchitectureWatch implements AutoCloseable {
+    private static final long QUIET_PERIOD_MILLIS = 20;
+
+    private final CheckOptions options;
+    private final List<Path> codebase;
+    private final ParallelRuleEngine engine;
+    private final ExternalTypes externalTypes = new ExternalTypes(ArchitectureWatch.class.getClassLoader());
+    private final WatchService watchService;
+    private final Map<Path, ClassFacts> factsByFile = new HashMap<>();
+    private final Map<String, Map<String, List<String>>> violationsByRule = new LinkedHashMap<>();
+    private CompactClassGraph graph;
+
+    public ArchitectureWatch(CheckOptions options) {
+        this.options = options;
+        this.codebase = options.codebases().getFirst();
+        ArchitectureCheck.validate(codebase);
+        if (!codebase.stream().allMatch(Files::isDirectory)) {
+            throw new IllegalArgumentException("--watch supports class directories only");
+        }
+        this.engine = new ParallelRuleEngine(options.parallelism(), options.chunkSize());
+        try {
+            this.watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create a file watch service", e);
+        }
+    }
+
+    public WatchUpdate start() {
+        long start = System.nanoTime();
+        for (Path directory : codebase) {
+            Path packageDirectory = directory.resolve(options.rootPackage().replace('.', '/'));
+            if (Files.isDirectory(packageDirectory)) {
+                register(packageDirectory);
+                classFiles(packageDirectory).forEach(file -> factsByFile.put(file, ClassFactsReader.read(readAllBytes(file))));
+            }
+        }
+        graph = CompactClassGraph.of(factsByFile.values(), externalTypes);
+        JavaClasses classes = ArchitectureCheck.importCodebase(codebase, options.rootPackage(), ImportPlan.fullImport());
+        List<RegisteredRule> rules = rules(new ClassIndex(classes));
+        for (RuleEvaluation evaluation : engine.evaluate(classes, rules)) {
+            violationsByRule.put(evaluation.rule().name(), violationsByClass(evaluation.result()));
+        }
+        return update(new TreeSet<>(), rules.stream().map(RegisteredRule::name).toList(), classes.size(), start);
+    }
+
+    public void run(PrintStream out) throws InterruptedException {
+        print(out, start());
+        while (!Thread.currentThread().isInterrupted()) {
+            print(out, apply(awaitChanges()));
+        }
+    }
+
+    public Set<Path> awaitChanges() throws InterruptedException {
+        Set<Path> changedFiles = new HashSet<>();
+        WatchKey key = watchService.take();
+        while (key != null) {
+            Path directory = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    changedFiles.addAll(factsByFile.keySet());
+                    continue;
+                }
+                Path path = directory.resolve((Path) event.context());
+                if (Files.isDirectory(path)) {
+                    register(path);
+                    changedFiles.addAll(classFiles(path));
+                } else if (path.getFileName().toString().endsWith(".class")) {
+                    changedFiles.add(path);
+                }
+            }
+            key.reset();
+            key = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        return changedFiles;
+    }
+
+    public WatchUpdate apply(Set<Path> changedFiles) {
+        long start = System.nanoTime();
+        CompactClassGraph previousGraph = graph;
+        Set<String> changedClasses = new TreeSet<>();
+        boolean dependenciesChanged = false;
+        for (Path file : changedFiles) {
+            ClassFacts before = factsByFile.remove(file);
+            ClassFacts after = Files.isRegularFile(file) ? ClassFactsReader.read(readAllBytes(file)) : null;
+            if (after != null) {
+                factsByFile.put(file, after);
+                changedClasses.add(after.name());
+            }
+            if (before != null) {
+                changedClasses.add(before.name());
+            }
+            dependenciesChanged |= before == null || after == null || !before.dependencies().equals(after.dependencies());
+        }
+        if (changedClasses.isEmpty()) {
+            return update(changedClasses, List.of(), 0, start);
+        }
+        graph = CompactClassGraph.of(factsByFile.values(), externalTypes);
+
+        Set<String> affectedClasses = new HashSet<>(changedClasses);
+        affectedClasses.addAll(neighbours(previousGraph, changedClasses));
+        affectedClasses.addAll(neighbours(graph, changedClasses));
+        BitSet affected = new BitSet(graph.size());
+        affectedClasses.stream().mapToInt(graph::classId).filter(classId -> classId >= 0).forEach(affected::set);
+
+        List<RuleDefinition> partialRules = new ArrayList<>();
+        List<RuleDefinition> fullRules = new ArrayList<>();
+        for (RuleDefinition rule : ArchitectureRules.definitions()) {
+            if (!options.includesRule(rule.name())) {
+                continue;
+            }
+            Map<String, List<String>> violations = violationsByRule.getOrDefault(rule.name(), Map.of());
+            if (rule.scope() == RuleScope.ALL_CLASSES) {
+                if (dependenciesChanged) {
+                    fullRules.add(rule);
+                }
+            } else if (violations.containsKey(OwningClasses.UNATTRIBUTED)) {
+                fullRules.add(rule);
+            } else if (rule.selector() == null
+                    || rule.selector().select(graph).intersects(affected)
+                    || affectedClasses.stream().anyMatch(violations::containsKey)) {
+                partialRules.add(rule);
+            }
+        }
+
+        int importedClasses = 0;
+        if (!partialRules.isEmpty()) {
+            JavaClasses classes = ArchitectureCheck.importCodebase(codebase, options.rootPackage(), ImportPlan.forClasses(graph, affected));
+            importedClasses = classes.size();
+            JavaClasses affectedSubset = classes.that(DescribedPredicate.describe(
+                    "affected by the changed class files",
+                    (JavaClass javaClass) -> affectedClasses.contains(javaClass.getName())
+            ));
+            for (RuleEvaluation evaluation : engine.evaluate(affectedSubset, named(rules(new ClassIndex(classes)), partialRules))) {
+                Map<String, List<String>> violations = violationsByRule.computeIfAbsent(evaluation.rule().name(), key -> new TreeMap<>());
+                violations.keySet().removeAll(affectedClasses);
+                violations.putAll(violationsByClass(evaluation.result()));
+            }
+        }
+        if (!fullRules.isEmpty()) {
+            JavaClasses classes = ArchitectureCheck.importCodebase(codebase, options.rootPackage(), ImportPlan.fullImport());
+            importedClasses = classes.size();
+            for (RuleEvaluation evaluation : engine.evaluate(classes, named(rules(new ClassIndex(classes)), fullRules))) {
+                violationsByRule.put(evaluation.rule().name(), violationsByClass(evaluation.result()));
+            }
+        }
+        List<String> evaluatedRules = new ArrayList<>();
+        partialRules.forEach(rule -> evaluatedRules.add(rule.name()));
+        fullRules.forEach(rule -> evaluatedRules.add(rule.name()));
+        return update(changedClasses, evaluatedRules, importedClasses, start);
+    }
+
+    public Map<String, List<String>> violations() {
+        Map<String, List<String>> violations = new LinkedHashMap<>();
+        violationsByRule.forEach((rule, violationsByClass) -> violations.put(
+                rule,
+                violationsByClass.values().stream().flatMap(List::stream).toList()
+        ));
+        return violations;
+    }
+
+    @Override
+    public void close() {
+        engine.close();
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not close the file watch service", e);
+        }
+    }
+
+    private List<RegisteredRule> rules(ClassIndex index) {
+        return new ArchitectureRules(index, options.rootPackage()).all().stream()
+                .filter(rule -> options.includesRule(rule.name()))
+                .toList();
+    }
+
+    private static List<RegisteredRule> named(List<RegisteredRule> rules, List<RuleDefinition> selectedRules) {
+        Set<String> names = new HashSet<>();
+        selectedRules.forEach(rule -> names.add(rule.name()));
+        return rules.stream().filter(rule -> names.contains(rule.name())).toList();
+    }
+
+    private static Set<String> neighbours(CompactClassGraph graph, Set<String> classNames) {
+        BitSet classes = new BitSet(graph.size());
+        classNames.stream().mapToInt(graph::classId).filter(classId -> classId >= 0).forEach(classes::set);
+        BitSet neighbours = new BitSet(graph.size());
+        for (int classId = 0; classId < graph.size(); classId++) {
+            int source = classId;
+            if (classes.get(source)) {
+                graph.forEachDependency(source, neighbours::set);
+            } else {
+                graph.forEachDependency(source, target -> {
+                    if (classes.get(target)) {
+                        neighbours.set(source);
+                    }
+                });
+            }
+        }
+        return new HashSet<>(graph.classNames(neighbours));
+    }
+
+    private static Map<String, List<String>> violationsByClass(EvaluationResult result) {
+        Map<String, List<String>> violations = new TreeMap<>();
+        result.handleViolations((Collection<Object> objects, String message) -> violations
+                .computeIfAbsent(OwningClasses.of(objects), key -> new ArrayList<>())
+                .add(message));
+        return violations;
+    }
+
+    private WatchUpdate update(Set<String> changedClasses, List<String> evaluatedRules, int importedClasses, long start) {
+        return new WatchUpdate(
+                changedClasses,
+                evaluatedRules,
+                importedClasses,
+                violations().values().stream().mapToInt(List::size).sum(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+        );
+    }
+
+    private static void print(PrintStream out, WatchUpdate update) {
+        out.printf(
+                "%d changed classes, %d rules re-checked on %d imported classes: %d violations (%d ms)%n",
+                update.changedClasses().size(), update.evaluatedRules().size(), update.importedClasses(), update.violations(), update.durationMillis()
+        );
+    }
+
+    private void register(Path directory) {
+        try (Stream<Path> directories = Files.walk(directory)) {
+            for (Path path : directories.filter(Files::isDirectory).toList()) {
+                path.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not watch " + directory, e);
+        }
+    }
+
+    private static List<Path> classFiles(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(path -> path.getFileName().toString().endsWith(".class")).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list class files in " + directory, e);
+        }
+    }
+
+    private static byte[] readAllBytes(Path classFile) {
+        try {
+            return Files.readAllBytes(classFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read class file " + classFile, e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.archunitrules.architecture.cli;
+
+import com.example.archunitrules.architecture.ArchitectureRules;
+import com.example.archunitrules.architecture.engine.ParallelRuleEngine;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+public record CheckOptions(
+        String rootPackage,
+        ReportFormat format,
+        Path output,
+        int parallelism,
+        int chunkSize,
+        int maxViolationsPerRule,
+        boolean fullImport,
+        boolean watch,
+        Set<String> rules,
+        List<List<Path>> codebases
+) {
+    public static final String USAGE = """
+            Usage: architecture-check [options] <codebase>...
+              <codebase>                 jar or class directory; join several with '%s' to check them as one codebase
+              --root-package <package>   root package of the checked codebases (default %s)
+              --format <json|sarif>      report format (default json)
+              --output <file>            report file (default standard output)
+              --rules <name,...>         only evaluate the named rules
+              --parallelism <threads>    rule evaluation threads (default available processors)
+              --chunk-size <classes>     classes per evaluation chunk (default %d)
+              --max-violations <count>   violations kept in the report per rule (default 1000)
+              --full-import              import every class even when the selected rules need only some of them
+              --watch                    keep running and re-check the rules affected by changed class files
+            """.formatted(File.pathSeparator, ArchitectureRules.DEFAULT_ROOT_PACKAGE, ParallelRuleEngine.DEFAULT_CHUNK_SIZE);
+
+    public static CheckOptions parse(String[] args) {
+        String rootPackage = ArchitectureRules.DEFAULT_ROOT_PACKAGE;
+        ReportFormat format = ReportFormat.JSON;
+        Path output = null;
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        int chunkSize = ParallelRuleEngine.DEFAULT_CHUNK_SIZE;
+        int maxViolationsPerRule = 1000;
+        boolean fullImport = false;
+        boolean watch = false;
+        Set<String> rules = Set.of();
+        List<List<Path>> codebases = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--root-package" -> rootPackage = value(args, ++i);
+                case "--format" -> format = ReportFormat.valueOf(value(args, ++i).toUpperCase(Locale.ROOT));
+                case "--output" -> output = Path.of(value(args, ++i));
+                case "--rules" -> rules = Set.of(value(args, ++i).split(","));
+                case "--parallelism" -> parallelism = positive(args, ++i);
+                case "--chunk-size" -> chunkSize = positive(args, ++i);
+                case "--max-violations" -> maxViolationsPerRule = positive(args, ++i);
+                case "--full-import" -> fullImport = true;
+                case "--watch" -> watch = true;
+                default -> {
+                    if (args[i].startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown option " + args[i]);
+                    }
+                    codebases.add(Arrays.stream(args[i].split(File.pathSeparator))
+                            .filter(path -> !path.isBlank())
+                            .map(Path::of)
+                            .toList());
+                }
+            }
+        }
+        if (codebases.isEmpty()) {
+            throw new IllegalArgumentException("No codebase to check");
+        }
+        if (watch && codebases.size() != 1) {
+            throw new IllegalArgumentException("--watch needs exactly one codebase");
+        }
+        Set<String> unknownRules = new TreeSet<>(rules);
+        ArchitectureRules.definitions().forEach(rule -> unknownRules.remove(rule.name()));
+        if (!unknownRules.isEmpty()) {
+            throw new IllegalArgumentException("Unknown rules " + String.join(", ", unknownRules));
+        }
+        return new CheckOptions(rootPackage, format, output, parallelism, chunkSize, maxViolationsPerRule, fullImport, watch, rules, codebases);
+    }
+
+    public boolean includesRule(String name) {
+        return rules.isEmpty() || rules.contains(name);
+    }
+
+    private static String value(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[index - 1]);
+        }
+        return args[index];
+    }
+
+    private static int positive(String[] args, int index) {
+        int value = Integer.parseInt(value(args, index));
+        if (value < 1) {
+            throw new IllegalArgumentException(args[index - 1] + " must be positive");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.archunitrules.architecture.cli;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+final class CodebaseClassFiles {
+    private CodebaseClassFiles() {
+    }
+
+    static void forEach(List<Path> codebase, String rootPackage, Consumer<byte[]> action) {
+        for (Path path : codebase) {
+            if (Files.isDirectory(path)) {
+                forEachInDirectory(path.resolve(packagePath(rootPackage)), action);
+            } else {
+                forEachInJar(path, rootPackage, action);
+            }
+        }
+    }
+
+    static String className(String location, String rootPackage) {
+        int packageStart = ("/" + location).indexOf("/" + packagePath(rootPackage));
+        if (packageStart < 0 || !location.endsWith(".class")) {
+            return null;
+        }
+        return location.substring(packageStart, location.length() - ".class".length()).replace('/', '.');
+    }
+
+    private static String packagePath(String rootPackage) {
+        return rootPackage.replace('.', '/') + "/";
+    }
+
+    private static void forEachInDirectory(Path packageDirectory, Consumer<byte[]> action) {
+        if (!Files.isDirectory(packageDirectory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(packageDirectory)) {
+            for (Path classFile : paths.filter(file -> file.getFileName().toString().endsWith(".class")).toList()) {
+                action.accept(Files.readAllBytes(classFile));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read class files in " + packageDirectory, e);
+        }
+    }
+
+    private static void forEachInJar(Path jar, String rootPackage, Consumer<byte[]> action) {
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                if (className(entry.getName(), rootPackage) != null) {
+                    try (InputStream classFile = jarFile.getInputStream(entry)) {
+                        action.accept(classFile.readAllBytes());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read class files in " + jar, e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.archunitrules.architecture.cli;
+
+import java.util.List;
+
+public record CodebaseReport(
+        String codebase,
+        int classes,
+        int importedClasses,
+        long durationMillis,
+        List<RuleReport> rules
+) {
+    public int violationCount() {
+        return rules.stream().mapToInt(RuleReport::violationCount).sum();
+    }
+}
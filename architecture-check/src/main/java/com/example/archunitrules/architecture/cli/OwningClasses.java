@@ -0,0 +1,37 @@
+package com.example.archunitrules.architecture.cli;
+
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaAccess;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaMember;
+import com.tngtech.archunit.core.domain.JavaParameter;
+
+import java.util.Collection;
+
+final class OwningClasses {
+    static final String UNATTRIBUTED = "";
+
+    private OwningClasses() {
+    }
+
+    static String of(Collection<Object> objects) {
+        for (Object object : objects) {
+            if (object instanceof JavaClass javaClass) {
+                return javaClass.getName();
+            }
+            if (object instanceof JavaMember member) {
+                return member.getOwner().getName();
+            }
+            if (object instanceof JavaParameter parameter) {
+                return parameter.getOwner().getOwner().getName();
+            }
+            if (object instanceof Dependency dependency) {
+                return dependency.getOriginClass().getName();
+            }
+            if (object instanceof JavaAccess<?> access) {
+                return access.getOriginOwner().getName();
+            }
+        }
+        return UNATTRIBUTED;
+    }
+}
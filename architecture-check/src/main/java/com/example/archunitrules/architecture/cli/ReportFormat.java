@@ -0,0 +1,6 @@
+package com.example.archunitrules.architecture.cli;
+
+public enum ReportFormat {
+    JSON,
+    SARIF
+}
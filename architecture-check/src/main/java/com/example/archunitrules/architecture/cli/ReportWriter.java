@@ -0,0 +1,83 @@
+package com.example.archunitrules.architecture.cli;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ReportWriter {
+    private static final String SARIF_SCHEMA = "https://json.schemastore.org/sarif-2.1.0.json";
+
+    private final ObjectWriter writer = new ObjectMapper()
+            .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false)
+            .writerWithDefaultPrettyPrinter();
+
+    public void write(ReportFormat format, Path output, List<CodebaseReport> reports) {
+        Object report = format == ReportFormat.SARIF ? sarif(reports) : Map.of("codebases", reports);
+        try {
+            if (output == null) {
+                writer.writeValue(System.out, report);
+                System.out.println();
+                return;
+            }
+            if (output.getParent() != null) {
+                Files.createDirectories(output.getParent());
+            }
+            writer.writeValue(output.toFile(), report);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write architecture report to " + output, e);
+        }
+    }
+
+    private static Map<String, Object> sarif(List<CodebaseReport> reports) {
+        Map<String, Map<String, Object>> rules = new LinkedHashMap<>();
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (CodebaseReport codebase : reports) {
+            for (RuleReport rule : codebase.rules()) {
+                rules.computeIfAbsent(rule.name(), name -> Map.of(
+                        "id", name,
+                        "shortDescription", Map.of("text", rule.description())
+                ));
+                for (RuleViolation violation : rule.violations()) {
+                    results.add(Map.of(
+                            "ruleId", rule.name(),
+                            "level", "error",
+                            "message", Map.of("text", violation.message()),
+                            "locations", List.of(location(codebase, violation))
+                    ));
+                }
+            }
+        }
+        Map<String, Object> driver = new LinkedHashMap<>();
+        driver.put("name", "architecture-check");
+        driver.put("rules", List.copyOf(rules.values()));
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("tool", Map.of("driver", driver));
+        run.put("results", results);
+        Map<String, Object> sarif = new LinkedHashMap<>();
+        sarif.put("$schema", SARIF_SCHEMA);
+        sarif.put("version", "2.1.0");
+        sarif.put("runs", List.of(run));
+        return sarif;
+    }
+
+    private static Map<String, Object> location(CodebaseReport codebase, RuleViolation violation) {
+        Map<String, Object> location = new LinkedHashMap<>();
+        location.put("physicalLocation", Map.of("artifactLocation", Map.of("uri", codebase.codebase())));
+        if (!violation.className().equals(OwningClasses.UNATTRIBUTED)) {
+            location.put("logicalLocations", List.of(Map.of(
+                    "fullyQualifiedName", violation.className(),
+                    "kind", "type"
+            )));
+        }
+        return location;
+    }
+}
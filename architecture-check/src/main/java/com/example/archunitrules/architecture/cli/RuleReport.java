@@ -0,0 +1,12 @@
+package com.example.archunitrules.architecture.cli;
+
+import java.util.List;
+
+public record RuleReport(
+        String name,
+        String description,
+        int selectedClasses,
+        int violationCount,
+        List<RuleViolation> violations
+) {
+}
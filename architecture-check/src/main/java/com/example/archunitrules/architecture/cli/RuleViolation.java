@@ -0,0 +1,7 @@
+package com.example.archunitrules.architecture.cli;
+
+public record RuleViolation(
+        String className,
+        String message
+) {
+}
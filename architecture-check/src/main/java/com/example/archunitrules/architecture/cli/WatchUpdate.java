@@ -0,0 +1,13 @@
+package com.example.archunitrules.architecture.cli;
+
+import java.util.List;
+import java.util.Set;
+
+public record WatchUpdate(
+        Set<String> changedClasses,
+        List<String> evaluatedRules,
+        int importedClasses,
+        int violations,
+        long durationMillis
+) {
+}
@@ -0,0 +1,280 @@
+package com.example.archunitrules.architecture.compact;
+
+import com.example.archunitrules.architecture.facts.ClassFacts;
+import com.tngtech.archunit.core.domain.PackageMatchers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+public class CompactClassGraph {
+    private static final int NO_CLASS = -1;
+
+    private final NameTable names;
+    private final int[] classNames;
+    private final int[] packageNames;
+    private final int[] superNames;
+    private final int[] interfaceOffsets;
+    private final int[] interfaceNames;
+    private final int[] annotationOffsets;
+    private final int[] annotationNames;
+    private final int[] dependencyOffsets;
+    private final int[] dependencies;
+    private final int[] classIdsByName;
+    private final ExternalTypes externalTypes;
+    private final Map<String, BitSet> selections = new ConcurrentHashMap<>();
+
+    private CompactClassGraph(Builder builder) {
+        this.names = builder.names;
+        this.classNames = builder.classNames.toArray();
+        this.packageNames = builder.packageNames.toArray();
+        this.superNames = builder.superNames.toArray();
+        this.interfaceOffsets = builder.interfaceOffsets.toArray();
+        this.interfaceNames = builder.interfaceNames.toArray();
+        this.annotationOffsets = builder.annotationOffsets.toArray();
+        this.annotationNames = builder.annotationNames.toArray();
+        this.externalTypes = builder.externalTypes;
+
+        this.classIdsByName = new int[names.size()];
+        Arrays.fill(classIdsByName, NO_CLASS);
+        for (int classId = 0; classId < classNames.length; classId++) {
+            classIdsByName[classNames[classId]] = classId;
+        }
+
+        IntList dependencyOffsets = new IntList(classNames.length + 1);
+        IntList dependencies = new IntList(builder.dependencyNames.size());
+        dependencyOffsets.add(0);
+        for (int classId = 0; classId < classNames.length; classId++) {
+            for (int i = builder.dependencyOffsets.get(classId); i < builder.dependencyOffsets.get(classId + 1); i++) {
+                int target = classIdsByName[builder.dependencyNames.get(i)];
+                if (target != NO_CLASS && target != classId) {
+                    dependencies.add(target);
+                }
+            }
+            dependencyOffsets.add(dependencies.size());
+        }
+        this.dependencyOffsets = dependencyOffsets.toArray();
+        this.dependencies = dependencies.toArray();
+    }
+
+    public static Builder builder(ExternalTypes externalTypes) {
+        return new Builder(externalTypes);
+    }
+
+    public static CompactClassGraph of(Collection<ClassFacts> classes, ExternalTypes externalTypes) {
+        Builder builder = builder(externalTypes);
+        classes.forEach(builder::add);
+        return builder.build();
+    }
+
+    public int size() {
+        return classNames.length;
+    }
+
+    public int classId(String className) {
+        int nameId = names.id(className);
+        return nameId == NameTable.NO_NAME ? NO_CLASS : classIdsByName[nameId];
+    }
+
+    public String className(int classId) {
+        return names.name(classNames[classId]);
+    }
+
+    public void forEachDependency(int classId, IntConsumer action) {
+        for (int i = dependencyOffsets[classId]; i < dependencyOffsets[classId + 1]; i++) {
+            action.accept(dependencies[i]);
+        }
+    }
+
+    public void forEachSupertype(int classId, IntConsumer action) {
+        if (superNames[classId] != NameTable.NO_NAME && classIdsByName[superNames[classId]] != NO_CLASS) {
+            action.accept(classIdsByName[superNames[classId]]);
+        }
+        for (int i = interfaceOffsets[classId]; i < interfaceOffsets[classId + 1]; i++) {
+            if (classIdsByName[interfaceNames[i]] != NO_CLASS) {
+                action.accept(classIdsByName[interfaceNames[i]]);
+            }
+        }
+    }
+
+    public List<String> classNames(BitSet classIds) {
+        List<String> selected = new ArrayList<>(classIds.cardinality());
+        classIds.stream().forEach(classId -> selected.add(className(classId)));
+        return selected;
+    }
+
+    public BitSet resideInAPackage(String packageIdentifier) {
+        return cached("package:" + packageIdentifier, key -> {
+            PackageMatchers packageMatchers = PackageMatchers.of(packageIdentifier);
+            byte[] matchingPackages = new byte[names.size()];
+            return select(classId -> {
+                int packageName = packageNames[classId];
+                if (matchingPackages[packageName] == 0) {
+                    matchingPackages[packageName] = (byte) (packageMatchers.test(names.name(packageName)) ? 1 : 2);
+                }
+                return matchingPackages[packageName] == 1;
+            });
+        });
+    }
+
+    public BitSet annotatedWith(String annotationType) {
+        return cached("annotated:" + annotationType, key -> {
+            int annotationName = names.id(annotationType);
+            return select(classId -> annotationName != NameTable.NO_NAME
+                    && anyName(annotationNames, annotationOffsets, classId, name -> name == annotationName));
+        });
+    }
+
+    public BitSet metaAnnotatedWith(String annotationType) {
+        return cached("meta-annotated:" + annotationType, key -> {
+            Map<String, Boolean> matches = new HashMap<>();
+            return select(classId -> anyName(annotationNames, annotationOffsets, classId,
+                    name -> isOrIsMetaAnnotatedWith(names.name(name), annotationType, matches, new HashSet<>())));
+        });
+    }
+
+    public BitSet assignableTo(String typeName) {
+        return cached("assignable:" + typeName, key -> {
+            Map<String, Boolean> matches = new HashMap<>();
+            return select(classId -> isAssignableTo(names.name(classNames[classId]), typeName, matches, new HashSet<>()));
+        });
+    }
+
+    private BitSet cached(String key, Function<String, BitSet> selection) {
+        return (BitSet) selections.computeIfAbsent(key, selection).clone();
+    }
+
+    private BitSet select(IntPredicate predicate) {
+        BitSet selected = new BitSet(classNames.length);
+        for (int classId = 0; classId < classNames.length; classId++) {
+            if (predicate.test(classId)) {
+                selected.set(classId);
+            }
+        }
+        return selected;
+    }
+
+    private static boolean anyName(int[] values, int[] offsets, int classId, IntPredicate predicate) {
+        for (int i = offsets[classId]; i < offsets[classId + 1]; i++) {
+            if (predicate.test(values[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isOrIsMetaAnnotatedWith(String annotation, String target, Map<String, Boolean> matches, Set<String> visiting) {
+        if (annotation.equals(target)) {
+            return true;
+        }
+        Boolean known = matches.get(annotation);
+        if (known != null) {
+            return known;
+        }
+        if (!visiting.add(annotation)) {
+            return false;
+        }
+        boolean matching = annotationsOf(annotation).stream()
+                .anyMatch(metaAnnotation -> isOrIsMetaAnnotatedWith(metaAnnotation, target, matches, visiting));
+        matches.put(annotation, matching);
+        return matching;
+    }
+
+    private boolean isAssignableTo(String type, String target, Map<String, Boolean> matches, Set<String> visiting) {
+        if (type.equals(target)) {
+            return true;
+        }
+        Boolean known = matches.get(type);
+        if (known != null) {
+            return known;
+        }
+        if (!visiting.add(type)) {
+            return false;
+        }
+        boolean matching = supertypesOf(type).stream()
+                .anyMatch(supertype -> isAssignableTo(supertype, target, matches, visiting));
+        matches.put(type, matching);
+        return matching;
+    }
+
+    private List<String> annotationsOf(String typeName) {
+        int classId = classId(typeName);
+        if (classId == NO_CLASS) {
+            return externalTypes.annotations(typeName);
+        }
+        List<String> annotations = new ArrayList<>();
+        for (int i = annotationOffsets[classId]; i < annotationOffsets[classId + 1]; i++) {
+            annotations.add(names.name(annotationNames[i]));
+        }
+        return annotations;
+    }
+
+    private List<String> supertypesOf(String typeName) {
+        int classId = classId(typeName);
+        if (classId == NO_CLASS) {
+            return externalTypes.supertypes(typeName);
+        }
+        List<String> supertypes = new ArrayList<>();
+        if (superNames[classId] != NameTable.NO_NAME) {
+            supertypes.add(names.name(superNames[classId]));
+        }
+        for (int i = interfaceOffsets[classId]; i < interfaceOffsets[classId + 1]; i++) {
+            supertypes.add(names.name(interfaceNames[i]));
+        }
+        return supertypes;
+    }
+
+    public static class Builder {
+        private final NameTable names = new NameTable();
+        private final ExternalTypes externalTypes;
+        private final BitSet addedClasses = new BitSet();
+        private final IntList classNames = new IntList(1024);
+        private final IntList packageNames = new IntList(1024);
+        private final IntList superNames = new IntList(1024);
+        private final IntList interfaceOffsets = new IntList(1024);
+        private final IntList interfaceNames = new IntList(1024);
+        private final IntList annotationOffsets = new IntList(1024);
+        private final IntList annotationNames = new IntList(1024);
+        private final IntList dependencyOffsets = new IntList(1024);
+        private final IntList dependencyNames = new IntList(8192);
+
+        private Builder(ExternalTypes externalTypes) {
+            this.externalTypes = externalTypes;
+            interfaceOffsets.add(0);
+            annotationOffsets.add(0);
+            dependencyOffsets.add(0);
+        }
+
+        public Builder add(ClassFacts facts) {
+            int className = names.intern(facts.name());
+            if (addedClasses.get(className)) {
+                throw new IllegalArgumentException("Class " + facts.name() + " was already added to the graph");
+            }
+            addedClasses.set(className);
+            classNames.add(className);
+            packageNames.add(names.intern(facts.packageName()));
+            superNames.add(facts.superName() == null ? NameTable.NO_NAME : names.intern(facts.superName()));
+            facts.interfaces().forEach(interfaceName -> interfaceNames.add(names.intern(interfaceName)));
+            interfaceOffsets.add(interfaceNames.size());
+            facts.annotations().forEach(annotation -> annotationNames.add(names.intern(annotation.type())));
+            annotationOffsets.add(annotationNames.size());
+            facts.dependencies().forEach(dependency -> dependencyNames.add(names.intern(dependency)));
+            dependencyOffsets.add(dependencyNames.size());
+            return this;
+        }
+
+        public CompactClassGraph build() {
+            return new CompactClassGraph(this);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.archunitrules.architecture.compact;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ExternalTypes {
+    private final ClassLoader classLoader;
+    private final Map<String, Optional<ExternalType>> types = new ConcurrentHashMap<>();
+
+    public ExternalTypes(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    public List<String> supertypes(String className) {
+        return find(className).map(ExternalType::supertypes).orElse(List.of());
+    }
+
+    public List<String> annotations(String className) {
+        return find(className).map(ExternalType::annotations).orElse(List.of());
+    }
+
+    private Optional<ExternalType> find(String className) {
+        return types.computeIfAbsent(className, this::read);
+    }
+
+    private Optional<ExternalType> read(String className) {
+        try (InputStream bytecode = classLoader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+            if (bytecode == null) {
+                return Optional.empty();
+            }
+            HeaderCollector collector = new HeaderCollector();
+            new ClassReader(bytecode).accept(collector, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+            return Optional.of(new ExternalType(List.copyOf(collector.supertypes), List.copyOf(collector.annotations)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read class file of " + className, e);
+        }
+    }
+
+    private record ExternalType(List<String> supertypes, List<String> annotations) {
+    }
+
+    private static class HeaderCollector extends ClassVisitor {
+        private final List<String> supertypes = new ArrayList<>();
+        private final List<String> annotations = new ArrayList<>();
+
+        HeaderCollector() {
+            super(Opcodes.ASM9);
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            if (superName != null) {
+                supertypes.add(Type.getObjectType(superName).getClassName());
+            }
+            Arrays.stream(interfaces).map(internalName -> Type.getObjectType(internalName).getClassName()).forEach(supertypes::add);
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            annotations.add(Type.getType(descriptor).getClassName());
+            return null;
+        }
+    }
+}
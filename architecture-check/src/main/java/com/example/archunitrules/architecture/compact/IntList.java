@@ -0,0 +1,31 @@
+package com.example.archunitrules.architecture.compact;
+
+import java.util.Arrays;
+
+final class IntList {
+    private int[] values;
+    private int size;
+
+    IntList(int initialCapacity) {
+        this.values = new int[Math.max(initialCapacity, 8)];
+    }
+
+    void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[size++] = value;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
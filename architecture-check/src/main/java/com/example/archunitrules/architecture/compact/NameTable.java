@@ -0,0 +1,41 @@
+package com.example.archunitrules.architecture.compact;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class NameTable {
+    public static final int NO_NAME = -1;
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private String[] names = new String[256];
+
+    public int intern(String name) {
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        int newId = ids.size();
+        if (newId == names.length) {
+            names = Arrays.copyOf(names, names.length * 2);
+        }
+        names[newId] = name;
+        ids.put(name, newId);
+        return newId;
+    }
+
+    public int id(String name) {
+        return ids.getOrDefault(name, NO_NAME);
+    }
+
+    public String name(int id) {
+        if (id < 0 || id >= ids.size()) {
+            throw new IllegalArgumentException("Unknown name id " + id);
+        }
+        return names[id];
+    }
+
+    public int size() {
+        return ids.size();
+    }
+}
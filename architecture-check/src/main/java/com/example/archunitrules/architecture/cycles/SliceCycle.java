@@ -0,0 +1,21 @@
+package com.example.archunitrules.architecture.cycles;
+
+import java.util.List;
+
+public record SliceCycle(
+        List<String> slices,
+        List<String> dependencies
+) {
+    public String description() {
+        StringBuilder description = new StringBuilder("Cycle detected: ");
+        slices.forEach(slice -> description.append("Slice ").append(slice).append(" -> "));
+        description.append("Slice ").append(slices.getFirst());
+        for (int i = 0; i < slices.size(); i++) {
+            description.append(System.lineSeparator())
+                    .append("  Slice ").append(slices.get(i))
+                    .append(" depends on Slice ").append(slices.get((i + 1) % slices.size()))
+                    .append(": ").append(dependencies.get(i));
+        }
+        return description.toString();
+    }
+}
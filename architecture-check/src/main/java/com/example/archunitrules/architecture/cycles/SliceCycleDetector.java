@@ -0,0 +1,147 @@
+package com.example.archunitrules.architecture.cycles;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public final class SliceCycleDetector {
+    private SliceCycleDetector() {
+    }
+
+    public static List<SliceCycle> findCycles(SliceGraph graph, int maxCyclesPerComponent) {
+        List<SliceCycle> cycles = new ArrayList<>();
+        for (BitSet component : stronglyConnectedComponents(graph)) {
+            if (component.cardinality() > 1) {
+                for (List<Integer> cycle : shortestCycles(graph, component, maxCyclesPerComponent)) {
+                    cycles.add(toSliceCycle(graph, cycle));
+                }
+            }
+        }
+        return cycles;
+    }
+
+    static List<BitSet> stronglyConnectedComponents(SliceGraph graph) {
+        int size = graph.size();
+        int[] index = new int[size];
+        int[] lowLink = new int[size];
+        int[] nextSuccessor = new int[size];
+        int[] callStack = new int[size];
+        int[] componentStack = new int[size];
+        boolean[] onStack = new boolean[size];
+        Arrays.fill(index, -1);
+        int counter = 0;
+        int stackSize = 0;
+        List<BitSet> components = new ArrayList<>();
+
+        for (int root = 0; root < size; root++) {
+            if (index[root] >= 0) {
+                continue;
+            }
+            int depth = 0;
+            callStack[0] = root;
+            index[root] = lowLink[root] = counter++;
+            componentStack[stackSize++] = root;
+            onStack[root] = true;
+            nextSuccessor[root] = graph.successors(root).nextSetBit(0);
+            while (depth >= 0) {
+                int node = callStack[depth];
+                int successor = nextSuccessor[node];
+                if (successor >= 0) {
+                    nextSuccessor[node] = graph.successors(node).nextSetBit(successor + 1);
+                    if (index[successor] < 0) {
+                        index[successor] = lowLink[successor] = counter++;
+                        componentStack[stackSize++] = successor;
+                        onStack[successor] = true;
+                        nextSuccessor[successor] = graph.successors(successor).nextSetBit(0);
+                        callStack[++depth] = successor;
+                    } else if (onStack[successor]) {
+                        lowLink[node] = Math.min(lowLink[node], index[successor]);
+                    }
+                    continue;
+                }
+                if (lowLink[node] == index[node]) {
+                    BitSet component = new BitSet(size);
+                    int member;
+                    do {
+                        member = componentStack[--stackSize];
+                        onStack[member] = false;
+                        component.set(member);
+                    } while (member != node);
+                    components.add(component);
+                }
+                depth--;
+                if (depth >= 0) {
+                    int parent = callStack[depth];
+                    lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+                }
+            }
+        }
+        return components;
+    }
+
+    private static Set<List<Integer>> shortestCycles(SliceGraph graph, BitSet component, int maxCycles) {
+        Set<List<Integer>> cycles = new LinkedHashSet<>();
+        int[] parent = new int[graph.size()];
+        for (int start = component.nextSetBit(0); start >= 0 && cycles.size() < maxCycles; start = component.nextSetBit(start + 1)) {
+            List<Integer> cycle = shortestCycleThrough(graph, component, start, parent);
+            if (cycle != null) {
+                cycles.add(canonical(cycle));
+            }
+        }
+        return cycles;
+    }
+
+    private static List<Integer> shortestCycleThrough(SliceGraph graph, BitSet component, int start, int[] parent) {
+        BitSet visited = new BitSet(graph.size());
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        visited.set(start);
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            BitSet successors = graph.successors(node);
+            for (int successor = successors.nextSetBit(0); successor >= 0; successor = successors.nextSetBit(successor + 1)) {
+                if (successor == start) {
+                    List<Integer> cycle = new ArrayList<>();
+                    for (int member = node; member != start; member = parent[member]) {
+                        cycle.add(member);
+                    }
+                    cycle.add(start);
+                    Collections.reverse(cycle);
+                    return cycle;
+                }
+                if (component.get(successor) && !visited.get(successor)) {
+                    visited.set(successor);
+                    parent[successor] = node;
+                    queue.add(successor);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<Integer> canonical(List<Integer> cycle) {
+        int smallest = cycle.indexOf(Collections.min(cycle));
+        List<Integer> rotated = new ArrayList<>(cycle.size());
+        for (int i = 0; i < cycle.size(); i++) {
+            rotated.add(cycle.get((smallest + i) % cycle.size()));
+        }
+        return List.copyOf(rotated);
+    }
+
+    private static SliceCycle toSliceCycle(SliceGraph graph, List<Integer> cycle) {
+        List<String> slices = new ArrayList<>(cycle.size());
+        List<String> dependencies = new ArrayList<>(cycle.size());
+        for (int i = 0; i < cycle.size(); i++) {
+            int origin = cycle.get(i);
+            int target = cycle.get((i + 1) % cycle.size());
+            slices.add(graph.sliceName(origin));
+            dependencies.add(graph.dependency(origin, target).getDescription());
+        }
+        return new SliceCycle(List.copyOf(slices), List.copyOf(dependencies));
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.archunitrules.architecture.cycles;
+
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.AbstractClassesTransformer;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+
+import static com.example.archunitrules.architecture.profiling.CountingCondition.counted;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.all;
+
+public final class SliceCycleRules {
+    public static final int DEFAULT_MAX_CYCLES_PER_COMPONENT = 20;
+
+    private SliceCycleRules() {
+    }
+
+    public static ArchRule slicesAreFreeOfCycles(String rootPackage, DescribedPredicate<? super JavaClass> ignoredTargets, int maxCyclesPerComponent) {
+        return all(sliceCycles(rootPackage, ignoredTargets, maxCyclesPerComponent))
+                .should(counted(beFreeOfCycles()))
+                .as("slices matching '" + rootPackage + ".(*)..' should be free of cycles");
+    }
+
+    private static AbstractClassesTransformer<SliceCycle> sliceCycles(String rootPackage, DescribedPredicate<? super JavaClass> ignoredTargets, int maxCyclesPerComponent) {
+        return new AbstractClassesTransformer<>("slice cycles") {
+            @Override
+            public Iterable<SliceCycle> doTransform(JavaClasses classes) {
+                return SliceCycleDetector.findCycles(SliceGraph.build(classes, rootPackage, ignoredTargets), maxCyclesPerComponent);
+            }
+        };
+    }
+
+    private static ArchCondition<SliceCycle> beFreeOfCycles() {
+        return new ArchCondition<>("be free of cycles") {
+            @Override
+            public void check(SliceCycle item, ConditionEvents events) {
+                events.add(SimpleConditionEvent.violated(item, item.description()));
+            }
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.archunitrules.architecture.cycles;
+
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+public class SliceGraph {
+    private final List<String> sliceNames;
+    private final BitSet[] successors;
+    private final Map<Long, Dependency> dependenciesByEdge;
+
+    private SliceGraph(List<String> sliceNames, BitSet[] successors, Map<Long, Dependency> dependenciesByEdge) {
+        this.sliceNames = sliceNames;
+        this.successors = successors;
+        this.dependenciesByEdge = dependenciesByEdge;
+    }
+
+    public static SliceGraph build(JavaClasses classes, String rootPackage, DescribedPredicate<? super JavaClass> ignoredTargets) {
+        String slicePrefix = rootPackage + ".";
+        TreeSet<String> names = new TreeSet<>();
+        for (JavaClass javaClass : classes) {
+            String slice = sliceOf(javaClass, slicePrefix);
+            if (slice != null) {
+                names.add(slice);
+            }
+        }
+        List<String> sliceNames = List.copyOf(names);
+        Map<String, Integer> sliceIds = new HashMap<>();
+        BitSet[] successors = new BitSet[sliceNames.size()];
+        for (int id = 0; id < sliceNames.size(); id++) {
+            sliceIds.put(sliceNames.get(id), id);
+            successors[id] = new BitSet(sliceNames.size());
+        }
+
+        Map<Long, Dependency> dependenciesByEdge = new HashMap<>();
+        for (JavaClass javaClass : classes) {
+            Integer origin = sliceIds.get(sliceOf(javaClass, slicePrefix));
+            if (origin == null) {
+                continue;
+            }
+            for (Dependency dependency : javaClass.getDirectDependenciesFromSelf()) {
+                if (ignoredTargets.test(dependency.getTargetClass())) {
+                    continue;
+                }
+                Integer target = sliceIds.get(sliceOf(dependency.getTargetClass().getBaseComponentType(), slicePrefix));
+                if (target == null || target.equals(origin)) {
+                    continue;
+                }
+                if (!successors[origin].get(target)) {
+                    successors[origin].set(target);
+                    dependenciesByEdge.put(edge(origin, target), dependency);
+                }
+            }
+        }
+        return new SliceGraph(sliceNames, successors, dependenciesByEdge);
+    }
+
+    public int size() {
+        return sliceNames.size();
+    }
+
+    public String sliceName(int slice) {
+        return sliceNames.get(slice);
+    }
+
+    public BitSet successors(int slice) {
+        return successors[slice];
+    }
+
+    public Dependency dependency(int origin, int target) {
+        return dependenciesByEdge.get(edge(origin, target));
+    }
+
+    private static String sliceOf(JavaClass javaClass, String slicePrefix) {
+        String packageName = javaClass.getPackageName();
+        if (!packageName.startsWith(slicePrefix)) {
+            return null;
+        }
+        int end = packageName.indexOf('.', slicePrefix.length());
+        return end < 0 ? packageName.substring(slicePrefix.length()) : packageName.substring(slicePrefix.length(), end);
+    }
+
+    private static long edge(int origin, int target) {
+        return ((long) origin << 32) | target;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.archunitrules.architecture.engine;
+
+import com.example.archunitrules.architecture.RuleDefinition;
+import com.example.archunitrules.architecture.RuleScope;
+import com.example.archunitrules.architecture.compact.CompactClassGraph;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Set;
+
+public record ImportPlan(
+        boolean full,
+        Set<String> classNames
+) {
+    public static ImportPlan fullImport() {
+        return new ImportPlan(true, Set.of());
+    }
+
+    public static boolean needsFullImport(Collection<RuleDefinition> rules) {
+        return rules.stream().anyMatch(rule -> rule.selector() == null || rule.scope() == RuleScope.ALL_CLASSES);
+    }
+
+    public static ImportPlan create(CompactClassGraph graph, Collection<RuleDefinition> rules) {
+        if (needsFullImport(rules)) {
+            return fullImport();
+        }
+        BitSet selected = new BitSet(graph.size());
+        rules.forEach(rule -> selected.or(rule.selector().select(graph)));
+        return forClasses(graph, selected);
+    }
+
+    public static ImportPlan forClasses(CompactClassGraph graph, BitSet selected) {
+        BitSet included = (BitSet) selected.clone();
+        for (int classId = 0; classId < graph.size(); classId++) {
+            int source = classId;
+            if (selected.get(source)) {
+                graph.forEachDependency(source, included::set);
+            } else {
+                graph.forEachDependency(source, target -> {
+                    if (selected.get(target)) {
+                        included.set(source);
+                    }
+                });
+            }
+        }
+
+        BitSet pending = (BitSet) included.clone();
+        while (!pending.isEmpty()) {
+            BitSet supertypes = new BitSet(graph.size());
+            pending.stream().forEach(classId -> graph.forEachSupertype(classId, supertype -> {
+                if (!included.get(supertype)) {
+                    supertypes.set(supertype);
+                }
+            }));
+            included.or(supertypes);
+            pending = supertypes;
+        }
+        return new ImportPlan(false, Set.copyOf(graph.classNames(included)));
+    }
+
+    public boolean includes(String className) {
+        return full || classNames.contains(className);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.archunitrules.architecture.engine;
+
+import com.example.archunitrules.architecture.RegisteredRule;
+import com.example.archunitrules.architecture.RuleScope;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.EvaluationResult;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+public class ParallelRuleEngine implements AutoCloseable {
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public ParallelRuleEngine(int parallelism, int chunkSize) {
+        this.pool = new ForkJoinPool(parallelism);
+        this.chunkSize = chunkSize;
+    }
+
+    public static ParallelRuleEngine withAvailableProcessors() {
+        return new ParallelRuleEngine(Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public List<RuleEvaluation> evaluate(JavaClasses classes, List<RegisteredRule> rules) {
+        RulePlan plan = RulePlan.create(classes, rules);
+        Map<JavaClasses, List<JavaClasses>> chunksByInput = new IdentityHashMap<>();
+        List<JavaClasses> inputs = rules.stream().map(plan::classesFor).toList();
+        List<List<CompletableFuture<EvaluationResult>>> pendingResults = new ArrayList<>(rules.size());
+        for (int i = 0; i < rules.size(); i++) {
+            JavaClasses input = inputs.get(i);
+            pendingResults.add(submit(rules.get(i), input, chunksByInput.computeIfAbsent(input, this::chunks)));
+        }
+        List<RuleEvaluation> evaluations = new ArrayList<>(rules.size());
+        for (int i = 0; i < rules.size(); i++) {
+            evaluations.add(new RuleEvaluation(rules.get(i), inputs.get(i).size(), merge(rules.get(i), pendingResults.get(i))));
+        }
+        return evaluations;
+    }
+
+    public static void assertNoViolations(List<RuleEvaluation> evaluations) {
+        String failureReports = evaluations.stream()
+                .map(RuleEvaluation::result)
+                .filter(EvaluationResult::hasViolation)
+                .map(result -> result.getFailureReport().toString())
+                .collect(Collectors.joining(System.lineSeparator()));
+        if (!failureReports.isEmpty()) {
+            throw new AssertionError(failureReports);
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private List<CompletableFuture<EvaluationResult>> submit(RegisteredRule rule, JavaClasses classes, List<JavaClasses> chunks) {
+        if (rule.scope() == RuleScope.ALL_CLASSES || chunks.size() < 2) {
+            return List.of(CompletableFuture.supplyAsync(() -> rule.rule().evaluate(classes), pool));
+        }
+        return chunks.stream()
+                .map(chunk -> CompletableFuture.supplyAsync(() -> rule.rule().evaluate(chunk), pool))
+                .toList();
+    }
+
+    private static EvaluationResult merge(RegisteredRule rule, List<CompletableFuture<EvaluationResult>> parts) {
+        if (parts.size() == 1) {
+            return join(parts.getFirst());
+        }
+        EvaluationResult first = join(parts.getFirst());
+        EvaluationResult merged = new EvaluationResult(rule.rule(), first.getPriority());
+        merged.add(first);
+        parts.stream().skip(1).map(ParallelRuleEngine::join).forEach(merged::add);
+        return merged;
+    }
+
+    private static EvaluationResult join(CompletableFuture<EvaluationResult> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private List<JavaClasses> chunks(JavaClasses classes) {
+        List<JavaClasses> chunks = new ArrayList<>();
+        Set<String> chunk = new HashSet<>();
+        for (JavaClass javaClass : classes) {
+            chunk.add(javaClass.getName());
+            if (chunk.size() == chunkSize) {
+                chunks.add(subset(classes, chunk));
+                chunk = new HashSet<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(subset(classes, chunk));
+        }
+        return chunks;
+    }
+
+    private static JavaClasses subset(JavaClasses classes, Set<String> classNames) {
+        return classes.that(DescribedPredicate.describe(
+                "in chunk of " + classNames.size() + " classes",
+                (JavaClass javaClass) -> classNames.contains(javaClass.getName())
+        ));
+    }
+}
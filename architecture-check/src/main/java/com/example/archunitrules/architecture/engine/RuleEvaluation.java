@@ -0,0 +1,11 @@
+package com.example.archunitrules.architecture.engine;
+
+import com.example.archunitrules.architecture.RegisteredRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+
+public record RuleEvaluation(
+        RegisteredRule rule,
+        int selectedClasses,
+        EvaluationResult result
+) {
+}
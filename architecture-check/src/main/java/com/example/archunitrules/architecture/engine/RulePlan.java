@@ -0,0 +1,69 @@
+package com.example.archunitrules.architecture.engine;
+
+import com.example.archunitrules.architecture.ClassSelector;
+import com.example.archunitrules.architecture.RegisteredRule;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class RulePlan {
+    private final JavaClasses classes;
+    private final Map<String, JavaClasses> classesBySelector;
+
+    private RulePlan(JavaClasses classes, Map<String, JavaClasses> classesBySelector) {
+        this.classes = classes;
+        this.classesBySelector = classesBySelector;
+    }
+
+    public static RulePlan create(JavaClasses classes, Collection<RegisteredRule> rules) {
+        Map<String, ClassSelector> selectors = new LinkedHashMap<>();
+        for (RegisteredRule rule : rules) {
+            if (rule.selector() != null) {
+                selectors.putIfAbsent(rule.selector().description(), rule.selector());
+            }
+        }
+
+        List<ClassSelector> uniqueSelectors = List.copyOf(selectors.values());
+        List<Set<String>> selectedClassNames = selectOnClasses(classes, uniqueSelectors);
+
+        Map<String, JavaClasses> classesBySelector = new HashMap<>();
+        for (int i = 0; i < uniqueSelectors.size(); i++) {
+            Set<String> classNames = selectedClassNames.get(i);
+            classesBySelector.put(uniqueSelectors.get(i).description(), classes.that(DescribedPredicate.describe(
+                    uniqueSelectors.get(i).description(),
+                    (JavaClass javaClass) -> classNames.contains(javaClass.getName())
+            )));
+        }
+        return new RulePlan(classes, classesBySelector);
+    }
+
+    private static List<Set<String>> selectOnClasses(JavaClasses classes, List<ClassSelector> selectors) {
+        List<Set<String>> selectedClassNames = new ArrayList<>(selectors.size());
+        selectors.forEach(selector -> selectedClassNames.add(new HashSet<>()));
+        for (JavaClass javaClass : classes) {
+            for (int i = 0; i < selectors.size(); i++) {
+                if (selectors.get(i).predicate().test(javaClass)) {
+                    selectedClassNames.get(i).add(javaClass.getName());
+                }
+            }
+        }
+        return selectedClassNames;
+    }
+
+    public JavaClasses classesFor(RegisteredRule rule) {
+        return rule.selector() == null ? classes : classesBySelector.get(rule.selector().description());
+    }
+
+    public int selectors() {
+        return classesBySelector.size();
+    }
+}
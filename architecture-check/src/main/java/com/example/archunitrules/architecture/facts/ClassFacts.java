@@ -0,0 +1,48 @@
+package com.example.archunitrules.architecture.facts;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public record ClassFacts(
+        String name,
+        String superName,
+        List<String> interfaces,
+        int access,
+        List<Annotation> annotations,
+        List<Member> fields,
+        List<Member> methods,
+        Set<String> dependencies
+) {
+    public String packageName() {
+        int lastDot = name.lastIndexOf('.');
+        return lastDot < 0 ? "" : name.substring(0, lastDot);
+    }
+
+    public String simpleName() {
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    public boolean isAnnotatedWith(String annotationType) {
+        return annotations.stream().anyMatch(annotation -> annotation.type().equals(annotationType));
+    }
+
+    public record Annotation(
+            String type,
+            Map<String, List<String>> values
+    ) {
+    }
+
+    public record Member(
+            String name,
+            String descriptor,
+            int access,
+            List<Annotation> annotations,
+            List<String> parameterNames,
+            List<List<Annotation>> parameterAnnotations
+    ) {
+        public boolean isAnnotatedWith(String annotationType) {
+            return annotations.stream().anyMatch(annotation -> annotation.type().equals(annotationType));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.archunitrules.architecture.facts;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class ClassFactsCache {
+    private final Path cacheFile;
+
+    public ClassFactsCache(Path cacheFile) {
+        this.cacheFile = cacheFile;
+    }
+
+    public ClassFactsSnapshot load(Collection<Path> classDirectories) {
+        long start = System.nanoTime();
+        Map<String, ClassFacts> cachedFacts = ClassFactsCodec.read(cacheFile);
+        Map<String, ClassFacts> factsByHash = new HashMap<>();
+        Map<String, ClassFacts> classes = new HashMap<>();
+        Map<String, String> hashes = new HashMap<>();
+        int reused = 0;
+        for (Path classFile : classFiles(classDirectories)) {
+            byte[] bytecode = readAllBytes(classFile);
+            String hash = hash(bytecode);
+            ClassFacts facts = cachedFacts.get(hash);
+            if (facts != null) {
+                reused++;
+            } else {
+                facts = ClassFactsReader.read(bytecode);
+            }
+            factsByHash.put(hash, facts);
+            classes.put(facts.name(), facts);
+            hashes.put(facts.name(), hash);
+        }
+        if (!factsByHash.keySet().equals(cachedFacts.keySet())) {
+            store(factsByHash);
+        }
+        return new ClassFactsSnapshot(
+                Map.copyOf(classes),
+                Map.copyOf(hashes),
+                reused,
+                classes.size() - reused,
+                Duration.ofNanos(System.nanoTime() - start)
+        );
+    }
+
+    public static String hash(byte[] bytecode) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytecode));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void store(Map<String, ClassFacts> factsByHash) {
+        try {
+            ClassFactsCodec.write(cacheFile, factsByHash);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write class facts cache " + cacheFile, e);
+        }
+    }
+
+    private static List<Path> classFiles(Collection<Path> classDirectories) {
+        List<Path> classFiles = new ArrayList<>();
+        for (Path classDirectory : classDirectories) {
+            try (Stream<Path> paths = Files.walk(classDirectory)) {
+                paths.filter(Files::isRegularFile)
+                        .filter(path -> path.getFileName().toString().endsWith(".class"))
+                        .filter(path -> !path.getFileName().toString().endsWith("-info.class"))
+                        .sorted()
+                        .forEach(classFiles::add);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not list class files in " + classDirectory, e);
+            }
+        }
+        return classFiles;
+    }
+
+    private static byte[] readAllBytes(Path classFile) {
+        try {
+            return Files.readAllBytes(classFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read class file " + classFile, e);
+        }
+    }
+}
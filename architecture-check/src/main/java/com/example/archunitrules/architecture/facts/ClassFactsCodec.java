@@ -0,0 +1,221 @@
+package com.example.archunitrules.architecture.facts;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+final class ClassFactsCodec {
+    private static final int MAGIC = 0x41524346;
+    private static final int VERSION = 1;
+    private static final int NO_STRING = -1;
+
+    private ClassFactsCodec() {
+    }
+
+    static Map<String, ClassFacts> read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return Map.of();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Decoder decoder = new Decoder(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            return decoder.readEntries();
+        } catch (IOException | RuntimeException e) {
+            return Map.of();
+        }
+    }
+
+    static void write(Path file, Map<String, ClassFacts> factsByHash) throws IOException {
+        Encoder encoder = new Encoder();
+        byte[] body = encoder.encodeEntries(factsByHash);
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream fileStream = Files.newOutputStream(temporaryFile);
+             DataOutputStream output = new DataOutputStream(fileStream)) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(encoder.strings.size());
+            for (String string : encoder.strings.keySet()) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            }
+            output.write(body);
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static class Encoder {
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream output = new DataOutputStream(bytes);
+
+        byte[] encodeEntries(Map<String, ClassFacts> factsByHash) throws IOException {
+            output.writeInt(factsByHash.size());
+            for (Map.Entry<String, ClassFacts> entry : factsByHash.entrySet()) {
+                writeString(entry.getKey());
+                writeFacts(entry.getValue());
+            }
+            output.flush();
+            return bytes.toByteArray();
+        }
+
+        private void writeFacts(ClassFacts facts) throws IOException {
+            writeString(facts.name());
+            writeString(facts.superName());
+            writeStrings(facts.interfaces());
+            output.writeInt(facts.access());
+            writeAnnotations(facts.annotations());
+            writeMembers(facts.fields());
+            writeMembers(facts.methods());
+            writeStrings(List.copyOf(facts.dependencies()));
+        }
+
+        private void writeMembers(List<ClassFacts.Member> members) throws IOException {
+            output.writeInt(members.size());
+            for (ClassFacts.Member member : members) {
+                writeString(member.name());
+                writeString(member.descriptor());
+                output.writeInt(member.access());
+                writeAnnotations(member.annotations());
+                writeStrings(member.parameterNames());
+                output.writeInt(member.parameterAnnotations().size());
+                for (List<ClassFacts.Annotation> annotations : member.parameterAnnotations()) {
+                    writeAnnotations(annotations);
+                }
+            }
+        }
+
+        private void writeAnnotations(List<ClassFacts.Annotation> annotations) throws IOException {
+            output.writeInt(annotations.size());
+            for (ClassFacts.Annotation annotation : annotations) {
+                writeString(annotation.type());
+                output.writeInt(annotation.values().size());
+                for (Map.Entry<String, List<String>> value : annotation.values().entrySet()) {
+                    writeString(value.getKey());
+                    writeStrings(value.getValue());
+                }
+            }
+        }
+
+        private void writeStrings(List<String> values) throws IOException {
+            output.writeInt(values.size());
+            for (String value : values) {
+                writeString(value);
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            output.writeInt(value == null ? NO_STRING : strings.computeIfAbsent(value, key -> strings.size()));
+        }
+    }
+
+    private static class Decoder {
+        private final ByteBuffer buffer;
+        private String[] strings;
+
+        Decoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        Map<String, ClassFacts> readEntries() {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return Map.of();
+            }
+            strings = new String[readCount(Integer.BYTES)];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[readCount(1)];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            int size = readCount(Integer.BYTES);
+            Map<String, ClassFacts> factsByHash = new HashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                factsByHash.put(readString(), readFacts());
+            }
+            return factsByHash;
+        }
+
+        private ClassFacts readFacts() {
+            return new ClassFacts(
+                    readString(),
+                    readString(),
+                    readStrings(),
+                    buffer.getInt(),
+                    readAnnotations(),
+                    readMembers(),
+                    readMembers(),
+                    Set.copyOf(readStrings())
+            );
+        }
+
+        private List<ClassFacts.Member> readMembers() {
+            int size = readCount(Integer.BYTES);
+            List<ClassFacts.Member> members = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String name = readString();
+                String descriptor = readString();
+                int access = buffer.getInt();
+                List<ClassFacts.Annotation> annotations = readAnnotations();
+                List<String> parameterNames = readStrings();
+                int parameters = readCount(Integer.BYTES);
+                List<List<ClassFacts.Annotation>> parameterAnnotations = new ArrayList<>(parameters);
+                for (int j = 0; j < parameters; j++) {
+                    parameterAnnotations.add(readAnnotations());
+                }
+                members.add(new ClassFacts.Member(name, descriptor, access, annotations, parameterNames, List.copyOf(parameterAnnotations)));
+            }
+            return List.copyOf(members);
+        }
+
+        private List<ClassFacts.Annotation> readAnnotations() {
+            int size = readCount(Integer.BYTES);
+            List<ClassFacts.Annotation> annotations = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String type = readString();
+                int valueCount = readCount(Integer.BYTES);
+                Map<String, List<String>> values = new LinkedHashMap<>();
+                for (int j = 0; j < valueCount; j++) {
+                    values.put(readString(), readStrings());
+                }
+                annotations.add(new ClassFacts.Annotation(type, values));
+            }
+            return List.copyOf(annotations);
+        }
+
+        private List<String> readStrings() {
+            int size = readCount(Integer.BYTES);
+            List<String> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                values.add(readString());
+            }
+            return List.copyOf(values);
+        }
+
+        private int readCount(int minimumElementBytes) {
+            int count = buffer.getInt();
+            if (count < 0 || count > buffer.remaining() / minimumElementBytes) {
+                throw new IllegalArgumentException("Corrupt class facts cache: count " + count + " exceeds the remaining " + buffer.remaining() + " bytes");
+            }
+            return count;
+        }
+
+        private String readString() {
+            int index = buffer.getInt();
+            return index == NO_STRING ? null : strings[index];
+        }
+    }
+}
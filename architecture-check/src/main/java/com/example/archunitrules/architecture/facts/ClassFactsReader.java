@@ -0,0 +1,320 @@
+package com.example.archunitrules.architecture.facts;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.signature.SignatureReader;
+import org.objectweb.asm.signature.SignatureVisitor;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+public final class ClassFactsReader {
+    private ClassFactsReader() {
+    }
+
+    public static ClassFacts read(byte[] bytecode) {
+        FactsCollector collector = new FactsCollector();
+        new ClassReader(bytecode).accept(collector, ClassReader.SKIP_FRAMES);
+        return collector.toFacts();
+    }
+
+    private static String toClassName(String internalName) {
+        return internalName.replace('/', '.');
+    }
+
+    private static class FactsCollector extends ClassVisitor {
+        private final List<ClassFacts.Annotation> annotations = new ArrayList<>();
+        private final List<ClassFacts.Member> fields = new ArrayList<>();
+        private final List<ClassFacts.Member> methods = new ArrayList<>();
+        private final Set<String> dependencies = new LinkedHashSet<>();
+        private String name;
+        private String superName;
+        private List<String> interfaces = List.of();
+        private int access;
+
+        FactsCollector() {
+            super(Opcodes.ASM9);
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            this.name = toClassName(name);
+            this.access = access;
+            this.superName = superName == null ? null : toClassName(superName);
+            this.interfaces = Arrays.stream(interfaces).map(ClassFactsReader::toClassName).toList();
+            addInternalName(superName);
+            Arrays.stream(interfaces).forEach(this::addInternalName);
+            addSignature(signature);
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            return annotationCollector(descriptor, annotations::add);
+        }
+
+        @Override
+        public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+            addDescriptor(descriptor);
+            addSignature(signature);
+            List<ClassFacts.Annotation> fieldAnnotations = new ArrayList<>();
+            return new FieldVisitor(Opcodes.ASM9) {
+                @Override
+                public AnnotationVisitor visitAnnotation(String annotationDescriptor, boolean visible) {
+                    return annotationCollector(annotationDescriptor, fieldAnnotations::add);
+                }
+
+                @Override
+                public void visitEnd() {
+                    fields.add(new ClassFacts.Member(name, descriptor, access, List.copyOf(fieldAnnotations), List.of(), List.of()));
+                }
+            };
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+            addDescriptor(descriptor);
+            addSignature(signature);
+            if (exceptions != null) {
+                Arrays.stream(exceptions).forEach(this::addInternalName);
+            }
+            return new MethodCollector(access, name, descriptor);
+        }
+
+        ClassFacts toFacts() {
+            dependencies.remove(name);
+            return new ClassFacts(
+                    name,
+                    superName,
+                    interfaces,
+                    access,
+                    List.copyOf(annotations),
+                    List.copyOf(fields),
+                    List.copyOf(methods),
+                    Set.copyOf(dependencies)
+            );
+        }
+
+        private AnnotationVisitor annotationCollector(String descriptor, Consumer<ClassFacts.Annotation> target) {
+            addDescriptor(descriptor);
+            Map<String, List<String>> values = new LinkedHashMap<>();
+            return new AnnotationValuesCollector(values, null) {
+                @Override
+                public void visitEnd() {
+                    target.accept(new ClassFacts.Annotation(Type.getType(descriptor).getClassName(), values));
+                }
+            };
+        }
+
+        private void addInternalName(String internalName) {
+            if (internalName != null) {
+                addType(Type.getObjectType(internalName));
+            }
+        }
+
+        private void addDescriptor(String descriptor) {
+            Type type = Type.getType(descriptor);
+            if (type.getSort() == Type.METHOD) {
+                Arrays.stream(type.getArgumentTypes()).forEach(this::addType);
+                addType(type.getReturnType());
+            } else {
+                addType(type);
+            }
+        }
+
+        private void addType(Type type) {
+            Type elementType = type.getSort() == Type.ARRAY ? type.getElementType() : type;
+            if (elementType.getSort() == Type.OBJECT) {
+                dependencies.add(elementType.getClassName());
+            }
+        }
+
+        private void addSignature(String signature) {
+            if (signature == null) {
+                return;
+            }
+            new SignatureReader(signature).accept(new SignatureVisitor(Opcodes.ASM9) {
+                @Override
+                public void visitClassType(String internalName) {
+                    addInternalName(internalName);
+                }
+            });
+        }
+
+        private class AnnotationValuesCollector extends AnnotationVisitor {
+            private final Map<String, List<String>> values;
+            private final String arrayName;
+
+            AnnotationValuesCollector(Map<String, List<String>> values, String arrayName) {
+                super(Opcodes.ASM9);
+                this.values = values;
+                this.arrayName = arrayName;
+            }
+
+            @Override
+            public void visit(String name, Object value) {
+                if (value instanceof Type type) {
+                    addType(type);
+                    put(name, type.getClassName());
+                } else if (value.getClass().isArray()) {
+                    int length = Array.getLength(value);
+                    for (int i = 0; i < length; i++) {
+                        put(name, String.valueOf(Array.get(value, i)));
+                    }
+                } else {
+                    put(name, String.valueOf(value));
+                }
+            }
+
+            @Override
+            public void visitEnum(String name, String descriptor, String value) {
+                addDescriptor(descriptor);
+                put(name, value);
+            }
+
+            @Override
+            public AnnotationVisitor visitAnnotation(String name, String descriptor) {
+                addDescriptor(descriptor);
+                put(name, Type.getType(descriptor).getClassName());
+                return null;
+            }
+
+            @Override
+            public AnnotationVisitor visitArray(String name) {
+                values.computeIfAbsent(name, key -> new ArrayList<>());
+                return new AnnotationValuesCollector(values, name);
+            }
+
+            private void put(String name, String value) {
+                values.computeIfAbsent(name != null ? name : arrayName, key -> new ArrayList<>()).add(value);
+            }
+        }
+
+        private class MethodCollector extends MethodVisitor {
+            private final int access;
+            private final String name;
+            private final String descriptor;
+            private final List<ClassFacts.Annotation> methodAnnotations = new ArrayList<>();
+            private final List<List<ClassFacts.Annotation>> parameterAnnotations = new ArrayList<>();
+            private final List<String> declaredParameterNames = new ArrayList<>();
+            private final Map<Integer, String> localVariableNames = new HashMap<>();
+
+            MethodCollector(int access, String name, String descriptor) {
+                super(Opcodes.ASM9);
+                this.access = access;
+                this.name = name;
+                this.descriptor = descriptor;
+                for (int i = 0; i < Type.getArgumentTypes(descriptor).length; i++) {
+                    parameterAnnotations.add(new ArrayList<>());
+                }
+            }
+
+            @Override
+            public AnnotationVisitor visitAnnotation(String annotationDescriptor, boolean visible) {
+                return annotationCollector(annotationDescriptor, methodAnnotations::add);
+            }
+
+            @Override
+            public AnnotationVisitor visitParameterAnnotation(int parameter, String annotationDescriptor, boolean visible) {
+                if (parameter >= parameterAnnotations.size()) {
+                    return null;
+                }
+                return annotationCollector(annotationDescriptor, parameterAnnotations.get(parameter)::add);
+            }
+
+            @Override
+            public void visitParameter(String parameterName, int parameterAccess) {
+                declaredParameterNames.add(parameterName != null ? parameterName : "arg" + declaredParameterNames.size());
+            }
+
+            @Override
+            public void visitLocalVariable(String variableName, String variableDescriptor, String signature, Label start, Label end, int index) {
+                localVariableNames.putIfAbsent(index, variableName);
+            }
+
+            @Override
+            public void visitTypeInsn(int opcode, String type) {
+                addInternalName(type);
+            }
+
+            @Override
+            public void visitFieldInsn(int opcode, String owner, String fieldName, String fieldDescriptor) {
+                addInternalName(owner);
+                addDescriptor(fieldDescriptor);
+            }
+
+            @Override
+            public void visitMethodInsn(int opcode, String owner, String methodName, String methodDescriptor, boolean isInterface) {
+                addInternalName(owner);
+                addDescriptor(methodDescriptor);
+            }
+
+            @Override
+            public void visitInvokeDynamicInsn(String methodName, String methodDescriptor, Handle bootstrapMethodHandle, Object... bootstrapMethodArguments) {
+                addDescriptor(methodDescriptor);
+                for (Object argument : bootstrapMethodArguments) {
+                    if (argument instanceof Handle handle) {
+                        addInternalName(handle.getOwner());
+                    }
+                }
+            }
+
+            @Override
+            public void visitLdcInsn(Object value) {
+                if (value instanceof Type type && type.getSort() != Type.METHOD) {
+                    addType(type);
+                }
+            }
+
+            @Override
+            public void visitTryCatchBlock(Label start, Label end, Label handler, String type) {
+                addInternalName(type);
+            }
+
+            @Override
+            public void visitMultiANewArrayInsn(String arrayDescriptor, int numDimensions) {
+                addDescriptor(arrayDescriptor);
+            }
+
+            @Override
+            public void visitEnd() {
+                methods.add(new ClassFacts.Member(
+                        name,
+                        descriptor,
+                        access,
+                        List.copyOf(methodAnnotations),
+                        parameterNames(),
+                        parameterAnnotations.stream().map(List::copyOf).toList()
+                ));
+            }
+
+            private List<String> parameterNames() {
+                Type[] argumentTypes = Type.getArgumentTypes(descriptor);
+                if (declaredParameterNames.size() == argumentTypes.length) {
+                    return List.copyOf(declaredParameterNames);
+                }
+                List<String> names = new ArrayList<>(argumentTypes.length);
+                int slot = (access & Opcodes.ACC_STATIC) != 0 ? 0 : 1;
+                for (Type argumentType : argumentTypes) {
+                    names.add(localVariableNames.getOrDefault(slot, "arg" + names.size()));
+                    slot += argumentType.getSize();
+                }
+                return names;
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.archunitrules.architecture.facts;
+
+import java.time.Duration;
+import java.util.Map;
+
+public record ClassFactsSnapshot(
+        Map<String, ClassFacts> classes,
+        Map<String, String> hashes,
+        int reusedClasses,
+        int parsedClasses,
+        Duration loadDuration
+) {
+}
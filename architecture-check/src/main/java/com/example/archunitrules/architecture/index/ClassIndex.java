@@ -0,0 +1,111 @@
+package com.example.archunitrules.architecture.index;
+
+import com.example.archunitrules.architecture.facts.ClassFacts;
+import com.example.archunitrules.architecture.facts.ClassFactsReader;
+import com.tngtech.archunit.core.domain.JavaAnnotation;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.domain.JavaParameter;
+import com.tngtech.archunit.core.domain.PackageMatchers;
+import com.tngtech.archunit.core.domain.Source;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ClassIndex {
+    private final JavaClasses classes;
+    private final Map<String, List<JavaClass>> classesByPackage = new HashMap<>();
+    private final Map<JavaClass, List<JavaParameter>> methodParametersByRawType = new HashMap<>();
+    private final Map<String, List<JavaClass>> classesByMetaAnnotation = new ConcurrentHashMap<>();
+    private final Map<String, List<JavaClass>> classesByPackageIdentifier = new ConcurrentHashMap<>();
+    private final Map<JavaClass, List<JavaClass>> exceptionHandlerClassesByHandledType = new HashMap<>();
+    private final Map<String, ClassFacts> bytecodeFactsByClassName = new ConcurrentHashMap<>();
+
+    public ClassIndex(JavaClasses classes) {
+        this.classes = classes;
+        for (JavaClass javaClass : classes) {
+            classesByPackage.computeIfAbsent(javaClass.getPackageName(), key -> new ArrayList<>()).add(javaClass);
+            for (JavaMethod javaMethod : javaClass.getMethods()) {
+                for (JavaParameter javaParameter : javaMethod.getParameters()) {
+                    methodParametersByRawType.computeIfAbsent(javaParameter.getRawType(), key -> new ArrayList<>()).add(javaParameter);
+                }
+            }
+        }
+        for (JavaClass adviceClass : classesMetaAnnotatedWith(ControllerAdvice.class)) {
+            for (JavaMethod javaMethod : adviceClass.getAllMethods()) {
+                javaMethod.tryGetAnnotationOfType(ExceptionHandler.class.getName())
+                        .map(ClassIndex::handledTypes)
+                        .orElse(List.of())
+                        .forEach(handledType -> exceptionHandlerClassesByHandledType
+                                .computeIfAbsent(handledType, key -> new ArrayList<>())
+                                .add(adviceClass));
+            }
+        }
+    }
+
+    public List<JavaClass> classesInPackage(String packageName) {
+        return classesByPackage.getOrDefault(packageName, List.of());
+    }
+
+    public List<JavaClass> classesInPackagesMatching(String packageIdentifier) {
+        return classesByPackageIdentifier.computeIfAbsent(packageIdentifier, identifier -> {
+            PackageMatchers packageMatchers = PackageMatchers.of(identifier);
+            return classesByPackage.entrySet().stream()
+                    .filter(packageClasses -> packageMatchers.test(packageClasses.getKey()))
+                    .flatMap(packageClasses -> packageClasses.getValue().stream())
+                    .toList();
+        });
+    }
+
+    public List<JavaClass> classesMetaAnnotatedWith(Class<? extends Annotation> annotationType) {
+        return classesByMetaAnnotation.computeIfAbsent(annotationType.getName(), annotationName -> classes.stream()
+                .filter(javaClass -> javaClass.isMetaAnnotatedWith(annotationName))
+                .toList());
+    }
+
+    public List<JavaParameter> methodParametersOfRawType(JavaClass rawType) {
+        return methodParametersByRawType.getOrDefault(rawType, List.of());
+    }
+
+    public List<JavaClass> exceptionHandlerClassesFor(JavaClass exceptionType) {
+        return exceptionHandlerClassesByHandledType.getOrDefault(exceptionType, List.of());
+    }
+
+    public List<String> parameterNames(JavaMethod javaMethod) {
+        ClassFacts ownerFacts = bytecodeFactsByClassName.computeIfAbsent(javaMethod.getOwner().getName(), className -> readFacts(javaMethod.getOwner()));
+        return ownerFacts.methods().stream()
+                .filter(method -> method.name().equals(javaMethod.getName()))
+                .filter(method -> method.descriptor().equals(javaMethod.getDescriptor()))
+                .findFirst()
+                .map(ClassFacts.Member::parameterNames)
+                .orElseThrow(() -> new IllegalStateException("No bytecode found for " + javaMethod.getFullName()));
+    }
+
+    private static ClassFacts readFacts(JavaClass javaClass) {
+        Source source = javaClass.getSource()
+                .orElseThrow(() -> new IllegalStateException("No class file source for " + javaClass.getName()));
+        try (InputStream classFile = source.getUri().toURL().openStream()) {
+            return ClassFactsReader.read(classFile.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read class file of " + javaClass.getName(), e);
+        }
+    }
+
+    private static List<JavaClass> handledTypes(JavaAnnotation<?> exceptionHandler) {
+        Object value = exceptionHandler.getProperties().get("value");
+        if (value instanceof JavaClass[] handledTypes) {
+            return List.of(handledTypes);
+        }
+        return value instanceof JavaClass handledType ? List.of(handledType) : List.of();
+    }
+}
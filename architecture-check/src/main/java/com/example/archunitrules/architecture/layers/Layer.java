@@ -0,0 +1,7 @@
+package com.example.archunitrules.architecture.layers;
+
+public record Layer(
+        String name,
+        String packageIdentifier
+) {
+}
@@ -0,0 +1,26 @@
+package com.example.archunitrules.architecture.layers;
+
+import com.tngtech.archunit.core.domain.Dependency;
+
+import java.util.List;
+
+public record LayerAccess(
+        List<Layer> origins,
+        Layer target,
+        int dependencies,
+        List<Dependency> examples
+) {
+    public boolean isFrom(String layer) {
+        return origins.stream().anyMatch(origin -> origin.name().equals(layer));
+    }
+
+    public String description() {
+        StringBuilder description = new StringBuilder()
+                .append(origins.size() == 1 ? "Layer '" : "Layers '")
+                .append(String.join("', '", origins.stream().map(Layer::name).toList()))
+                .append(origins.size() == 1 ? "' accesses layer '" : "' access layer '").append(target.name())
+                .append("' through ").append(dependencies).append(dependencies == 1 ? " dependency" : " dependencies");
+        examples.forEach(dependency -> description.append(System.lineSeparator()).append(dependency.getDescription()));
+        return description.toString();
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.archunitrules.architecture.layers;
+
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.PackageMatchers;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class LayerDependencyMatrix {
+    public static final int MAX_LAYERS = Long.SIZE;
+    public static final int MAX_EXAMPLES_PER_ACCESS = 3;
+    private static final long NO_LAYERS = 0L;
+    private static final Comparator<CellKey> CELL_ORDER = Comparator
+            .comparingLong(CellKey::origins)
+            .thenComparingInt(CellKey::target);
+
+    private final List<Layer> layers;
+    private final Map<CellKey, Cell> cells;
+
+    private LayerDependencyMatrix(List<Layer> layers, Map<CellKey, Cell> cells) {
+        this.layers = layers;
+        this.cells = cells;
+    }
+
+    public static LayerDependencyMatrix build(JavaClasses classes, List<Layer> layers) {
+        if (layers.size() > MAX_LAYERS) {
+            throw new IllegalArgumentException("At most " + MAX_LAYERS + " layers are supported");
+        }
+        List<PackageMatchers> matchers = layers.stream()
+                .map(layer -> PackageMatchers.of(layer.packageIdentifier()))
+                .toList();
+        Map<String, Long> layersByPackage = new HashMap<>();
+        Map<CellKey, Cell> cells = new TreeMap<>(CELL_ORDER);
+
+        for (JavaClass javaClass : classes) {
+            long origins = layersOf(javaClass, matchers, layersByPackage);
+            if (origins == NO_LAYERS) {
+                continue;
+            }
+            for (Dependency dependency : javaClass.getDirectDependenciesFromSelf()) {
+                JavaClass targetClass = dependency.getTargetClass().getBaseComponentType();
+                if (!classes.contain(targetClass.getName())) {
+                    continue;
+                }
+                long targets = layersOf(targetClass, matchers, layersByPackage);
+                for (int target = 0; target < layers.size(); target++) {
+                    if ((targets & bit(target)) != 0) {
+                        cells.computeIfAbsent(new CellKey(origins, target), key -> new Cell()).add(dependency);
+                    }
+                }
+            }
+        }
+        return new LayerDependencyMatrix(List.copyOf(layers), cells);
+    }
+
+    private static long layersOf(JavaClass javaClass, List<PackageMatchers> matchers, Map<String, Long> layersByPackage) {
+        return layersByPackage.computeIfAbsent(javaClass.getPackageName(), packageName -> {
+            long layers = NO_LAYERS;
+            for (int layer = 0; layer < matchers.size(); layer++) {
+                if (matchers.get(layer).test(packageName)) {
+                    layers |= bit(layer);
+                }
+            }
+            return layers;
+        });
+    }
+
+    private static long bit(int layer) {
+        return 1L << layer;
+    }
+
+    public List<Layer> layers() {
+        return layers;
+    }
+
+    public List<LayerAccess> accesses() {
+        List<LayerAccess> accesses = new ArrayList<>(cells.size());
+        cells.forEach((key, cell) -> accesses.add(new LayerAccess(
+                originLayers(key.origins()),
+                layers.get(key.target()),
+                cell.dependencies,
+                List.copyOf(cell.examples)
+        )));
+        return accesses;
+    }
+
+    private List<Layer> originLayers(long origins) {
+        List<Layer> originLayers = new ArrayList<>(Long.bitCount(origins));
+        for (int layer = 0; layer < layers.size(); layer++) {
+            if ((origins & bit(layer)) != 0) {
+                originLayers.add(layers.get(layer));
+            }
+        }
+        return List.copyOf(originLayers);
+    }
+
+    private record CellKey(long origins, int target) {
+    }
+
+    private static final class Cell {
+        private final List<Dependency> examples = new ArrayList<>(0);
+        private int dependencies;
+
+        private void add(Dependency dependency) {
+            dependencies++;
+            if (examples.size() < MAX_EXAMPLES_PER_ACCESS) {
+                examples.add(dependency);
+            }
+        }
+    }
+}
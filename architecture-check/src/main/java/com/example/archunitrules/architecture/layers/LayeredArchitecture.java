@@ -0,0 +1,116 @@
+package com.example.archunitrules.architecture.layers;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.AbstractClassesTransformer;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.example.archunitrules.architecture.profiling.CountingCondition.counted;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.all;
+
+public class LayeredArchitecture {
+    private final List<Layer> layers = new ArrayList<>();
+    private final Map<String, Set<String>> allowedAccessors = new LinkedHashMap<>();
+
+    public static LayeredArchitecture layers() {
+        return new LayeredArchitecture();
+    }
+
+    public LayeredArchitecture layer(String name, String packageIdentifier) {
+        if (indexOf(name) >= 0) {
+            throw new IllegalArgumentException("Layer " + name + " is already defined");
+        }
+        layers.add(new Layer(name, packageIdentifier));
+        return this;
+    }
+
+    public LayeredArchitecture mayNotBeAccessedByAnyLayer(String layer) {
+        return mayOnlyBeAccessedByLayers(layer);
+    }
+
+    public LayeredArchitecture mayOnlyBeAccessedByLayers(String layer, String... accessors) {
+        requireLayer(layer);
+        for (String accessor : accessors) {
+            requireLayer(accessor);
+        }
+        allowedAccessors.put(layer, Set.of(accessors));
+        return this;
+    }
+
+    public ArchRule rule() {
+        List<Layer> definedLayers = List.copyOf(layers);
+        Map<String, Set<String>> definedAccessors = Map.copyOf(allowedAccessors);
+        return all(forbiddenAccesses(definedLayers, definedAccessors))
+                .should(counted(notExist()))
+                .as(description(definedLayers));
+    }
+
+    public List<LayerAccess> forbiddenAccesses(JavaClasses classes) {
+        return forbiddenAccesses(classes, List.copyOf(layers), Map.copyOf(allowedAccessors));
+    }
+
+    private static List<LayerAccess> forbiddenAccesses(JavaClasses classes, List<Layer> definedLayers, Map<String, Set<String>> definedAccessors) {
+        return LayerDependencyMatrix.build(classes, definedLayers).accesses().stream()
+                .filter(access -> !isAllowed(access, definedAccessors.get(access.target().name())))
+                .toList();
+    }
+
+    private static boolean isAllowed(LayerAccess access, Set<String> accessors) {
+        return accessors == null
+                || access.isFrom(access.target().name())
+                || accessors.stream().anyMatch(access::isFrom);
+    }
+
+    private static AbstractClassesTransformer<LayerAccess> forbiddenAccesses(List<Layer> definedLayers, Map<String, Set<String>> definedAccessors) {
+        return new AbstractClassesTransformer<>("forbidden layer accesses") {
+            @Override
+            public Iterable<LayerAccess> doTransform(JavaClasses classes) {
+                return forbiddenAccesses(classes, definedLayers, definedAccessors);
+            }
+        };
+    }
+
+    private static ArchCondition<LayerAccess> notExist() {
+        return new ArchCondition<>("not exist") {
+            @Override
+            public void check(LayerAccess item, ConditionEvents events) {
+                events.add(SimpleConditionEvent.violated(item, item.description()));
+            }
+        };
+    }
+
+    private String description(List<Layer> definedLayers) {
+        StringBuilder description = new StringBuilder("Layered architecture considering only dependencies in layers, consisting of");
+        definedLayers.forEach(layer -> description.append(System.lineSeparator())
+                .append("layer '").append(layer.name()).append("' ('").append(layer.packageIdentifier()).append("')"));
+        allowedAccessors.forEach((layer, accessors) -> description.append(System.lineSeparator())
+                .append("where layer '").append(layer).append("' ")
+                .append(accessors.isEmpty()
+                        ? "may not be accessed by any layer"
+                        : "may only be accessed by layers ['" + String.join("', '", accessors.stream().sorted().toList()) + "']"));
+        return description.toString();
+    }
+
+    private int indexOf(String name) {
+        for (int i = 0; i < layers.size(); i++) {
+            if (layers.get(i).name().equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void requireLayer(String name) {
+        if (indexOf(name) < 0) {
+            throw new IllegalArgumentException("Layer " + name + " is not defined");
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.archunitrules.architecture.profiling;
+
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ConditionEvents;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CountingCondition<T> extends ArchCondition<T> {
+    private static final ThreadLocal<AtomicLong> CHECKS = new ThreadLocal<>();
+
+    private final ArchCondition<T> condition;
+
+    private CountingCondition(ArchCondition<T> condition) {
+        super(condition.getDescription());
+        this.condition = condition;
+    }
+
+    public static <T> ArchCondition<T> counted(ArchCondition<T> condition) {
+        return new CountingCondition<>(condition);
+    }
+
+    static void startCounting() {
+        CHECKS.set(new AtomicLong());
+    }
+
+    static long stopCounting() {
+        AtomicLong checks = CHECKS.get();
+        CHECKS.remove();
+        return checks == null ? 0 : checks.get();
+    }
+
+    @Override
+    public void init(Collection<T> allObjectsToTest) {
+        condition.init(allObjectsToTest);
+    }
+
+    @Override
+    public void check(T item, ConditionEvents events) {
+        AtomicLong checks = CHECKS.get();
+        if (checks != null) {
+            checks.incrementAndGet();
+        }
+        condition.check(item, events);
+    }
+
+    @Override
+    public void finish(ConditionEvents events) {
+        condition.finish(events);
+    }
+}
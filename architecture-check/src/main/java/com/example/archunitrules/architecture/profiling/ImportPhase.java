@@ -0,0 +1,7 @@
+package com.example.archunitrules.architecture.profiling;
+
+public record ImportPhase(
+        String name,
+        long wallNanos
+) {
+}
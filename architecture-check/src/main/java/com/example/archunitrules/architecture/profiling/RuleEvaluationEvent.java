@@ -0,0 +1,35 @@
+package com.example.archunitrules.architecture.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("com.example.archunitrules.RuleEvaluation")
+@Label("Architecture Rule Evaluation")
+@Category("ArchUnit")
+class RuleEvaluationEvent extends jdk.jfr.Event {
+    @Label("Rule")
+    String rule;
+
+    @Label("Scope")
+    String scope;
+
+    @Label("Classes")
+    int classes;
+
+    @Label("Condition Checks")
+    long conditionChecks;
+
+    @Label("Violations")
+    int violations;
+
+    @Label("CPU Time")
+    @Timespan
+    long cpuNanos;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+}
@@ -0,0 +1,15 @@
+package com.example.archunitrules.architecture.profiling;
+
+import com.example.archunitrules.architecture.RuleScope;
+
+public record RuleProfile(
+        String rule,
+        RuleScope scope,
+        int selectedClasses,
+        long conditionChecks,
+        int violations,
+        long wallNanos,
+        long cpuNanos,
+        long allocatedBytes
+) {
+}
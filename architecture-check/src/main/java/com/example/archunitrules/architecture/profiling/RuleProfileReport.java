@@ -0,0 +1,9 @@
+package com.example.archunitrules.architecture.profiling;
+
+import java.util.List;
+
+public record RuleProfileReport(
+        List<ImportPhase> importPhases,
+        List<RuleProfile> rules
+) {
+}
@@ -0,0 +1,116 @@
+package com.example.archunitrules.architecture.profiling;
+
+import com.example.archunitrules.architecture.RuleScope;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class RuleProfiler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RuleProfiler.class);
+
+    private final Path reportDirectory;
+    private final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final Queue<RuleProfile> profiles = new ConcurrentLinkedQueue<>();
+
+    public RuleProfiler(Path reportDirectory) {
+        this.reportDirectory = reportDirectory;
+    }
+
+    public static RuleProfiler create() {
+        if (!Boolean.getBoolean("archunit.profile")) {
+            return null;
+        }
+        return new RuleProfiler(Path.of(System.getProperty("archunit.report.dir", "build/reports/archunit")));
+    }
+
+    public EvaluationResult evaluate(ArchRule rule, RuleScope scope, JavaClasses classes) {
+        RuleEvaluationEvent event = new RuleEvaluationEvent();
+        event.begin();
+        long allocatedStart = threads.getCurrentThreadAllocatedBytes();
+        long cpuStart = threads.getCurrentThreadCpuTime();
+        long wallStart = System.nanoTime();
+        CountingCondition.startCounting();
+
+        EvaluationResult result;
+        long conditionChecks;
+        try {
+            result = rule.evaluate(classes);
+        } finally {
+            conditionChecks = CountingCondition.stopCounting();
+        }
+
+        long wallNanos = System.nanoTime() - wallStart;
+        long cpuNanos = threads.getCurrentThreadCpuTime() - cpuStart;
+        long allocatedBytes = threads.getCurrentThreadAllocatedBytes() - allocatedStart;
+        event.end();
+        int violations = result.getFailureReport().getDetails().size();
+        profiles.add(new RuleProfile(
+                rule.getDescription(),
+                scope,
+                classes.size(),
+                conditionChecks,
+                violations,
+                wallNanos,
+                cpuNanos,
+                allocatedBytes
+        ));
+        if (event.shouldCommit()) {
+            event.rule = rule.getDescription();
+            event.scope = scope.name();
+            event.classes = classes.size();
+            event.conditionChecks = conditionChecks;
+            event.violations = violations;
+            event.cpuNanos = cpuNanos;
+            event.allocatedBytes = allocatedBytes;
+            event.commit();
+        }
+        return result;
+    }
+
+    public void writeReport(List<ImportPhase> importPhases) {
+        List<RuleProfile> rules = new ArrayList<>(profiles);
+        rules.sort(Comparator.comparingLong(RuleProfile::wallNanos).reversed());
+        Path jsonReport = reportDirectory.resolve("rule-profile.json");
+        Path csvReport = reportDirectory.resolve("rule-profile.csv");
+        try {
+            Files.createDirectories(reportDirectory);
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(jsonReport.toFile(), new RuleProfileReport(importPhases, rules));
+            Files.write(csvReport, csvLines(rules));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write rule profile report to " + reportDirectory, e);
+        }
+        LOGGER.info("ArchUnit rule profile: {} evaluations written to {} and {}", rules.size(), jsonReport, csvReport);
+    }
+
+    private static List<String> csvLines(List<RuleProfile> rules) {
+        List<String> lines = new ArrayList<>();
+        lines.add("rule,scope,selectedClasses,conditionChecks,violations,wallNanos,cpuNanos,allocatedBytes");
+        for (RuleProfile profile : rules) {
+            lines.add(String.join(",",
+                    "\"" + profile.rule().replace("\"", "\"\"") + "\"",
+                    profile.scope().name(),
+                    String.valueOf(profile.selectedClasses()),
+                    String.valueOf(profile.conditionChecks()),
+                    String.valueOf(profile.violations()),
+                    String.valueOf(profile.wallNanos()),
+                    String.valueOf(profile.cpuNanos()),
+                    String.valueOf(profile.allocatedBytes())
+            ));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.archunitrules.architecture.benchmark;
+
+import com.example.archunitrules.architecture.ArchitectureRules;
+import com.example.archunitrules.architecture.index.ClassIndex;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class ArchitectureRuleBenchmark {
+    @Param({BenchmarkCodebases.REAL, "1000", "10000", "50000"})
+    private String codebase;
+
+    @Param({
+            "serviceInterfacesAreProperlyNamed",
+            "serviceImplementationsAreProperlyNamed",
+            "layersAreAccessedFromTopToBottomOnly",
+            "requestsWithValidationAnnotationsAreProperlyValidated",
+            "allExceptionsHaveHandlers",
+            "controllerNamesHaveProperPostfix",
+            "repositoryNamesHaveProperPostfix",
+            "customRepositoryNamesHaveProperPostfix",
+            "enumerationPackageHasEnumsOnly",
+            "requestDtosHasProperNamesAndAreRecords",
+            "responseDtosHasProperNamesAndAreRecords",
+            "controllersHavePathField",
+            "controllerPathFieldsArePublicStaticFinalStrings",
+            "allServicesMustBeAnnotatedWithServiceAnnotations",
+            "allControllersMustBeMetaAnnotatedWithControllerAnnotations",
+            "allEntitiesMustBeAnnotatedWithEntityAnnotations",
+            "mapperToEntityMethodsHaveProperNames",
+            "mapperRequestArgumentsHaveProperNames",
+            "mapperToResponseMethodsHaveProperNames",
+            "utilityMethodsAreStatic",
+            "utilityClassesHaveOnlyPrivateConstructors",
+            "constantClassesHaveNoMethods",
+            "constantFieldsArePublicStaticFinal",
+            "componentAnnotatedFieldsArePrivateAndFinal",
+            "thereAreNoTopLevelLayerPackages",
+            "repositoryMethodsReturnOptionalsOrCollections",
+            "pageableRepositoryMethodsTakePageableLast",
+            "noCircularDependencies",
+            "noEntitiesInControllers",
+            "fieldInjectionNotUsed",
+            "controllerMethodsAreAnnotatedWithOpenapiAnnotations",
+            "entitiesHaveEqualsAndHashCode"
+    })
+    private String rule;
+
+    private JavaClasses classes;
+    private ArchRule archRule;
+
+    @Setup(Level.Trial)
+    public void prepareRule() {
+        Path syntheticCodebase = BenchmarkCodebases.prepare(codebase);
+        classes = BenchmarkCodebases.importClasses(syntheticCodebase);
+        ArchitectureRules rules = new ArchitectureRules(new ClassIndex(classes), BenchmarkCodebases.rootPackage(syntheticCodebase));
+        archRule = rules.rule(rule).rule();
+    }
+
+    @Benchmark
+    public EvaluationResult evaluateRule() {
+        return archRule.evaluate(classes);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.archunitrules.architecture.benchmark;
+
+import com.example.archunitrules.architecture.ImportedClasses;
+import com.example.archunitrules.architecture.synthetic.SyntheticCodebaseGenerator;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+final class BenchmarkCodebases {
+    static final String REAL = "real";
+
+    private BenchmarkCodebases() {
+    }
+
+    static Path prepare(String codebase) {
+        if (REAL.equals(codebase)) {
+            return null;
+        }
+        try {
+            Path outputDirectory = Files.createTempDirectory("synthetic-codebase-" + codebase);
+            new SyntheticCodebaseGenerator(outputDirectory).generateClasses(Integer.parseInt(codebase));
+            return outputDirectory;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not prepare synthetic codebase " + codebase, e);
+        }
+    }
+
+    static JavaClasses importClasses(Path syntheticCodebase) {
+        if (syntheticCodebase == null) {
+            return new ClassFileImporter().importPaths(mainClassDirectories());
+        }
+        return new ClassFileImporter().importPath(syntheticCodebase);
+    }
+
+    private static List<Path> mainClassDirectories() {
+        String classDirectories = System.getProperty("archunit.benchmark.classes");
+        if (classDirectories == null) {
+            throw new IllegalStateException("archunit.benchmark.classes must point to the compiled main classes");
+        }
+        return Arrays.stream(classDirectories.split(File.pathSeparator))
+                .map(Path::of)
+                .toList();
+    }
+
+    static String rootPackage(Path syntheticCodebase) {
+        return syntheticCodebase == null ? ImportedClasses.ROOT_PACKAGE : SyntheticCodebaseGenerator.ROOT_PACKAGE;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.archunitrules.architecture.benchmark;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class ClassImportBenchmark {
+    @Param({BenchmarkCodebases.REAL, "1000", "10000", "50000"})
+    private String codebase;
+
+    private Path syntheticCodebase;
+
+    @Setup(Level.Trial)
+    public void prepareCodebase() {
+        syntheticCodebase = BenchmarkCodebases.prepare(codebase);
+    }
+
+    @Benchmark
+    public JavaClasses importClasses() {
+        return BenchmarkCodebases.importClasses(syntheticCodebase);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.archunitrules.architecture.benchmark;
+
+import com.example.archunitrules.architecture.ArchitectureRules;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaAnnotation;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaField;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class ConditionBenchmark {
+    @Param({BenchmarkCodebases.REAL, "1000", "10000", "50000"})
+    private String codebase;
+
+    private List<JavaAnnotation<JavaField>> fieldAnnotations;
+    private DescribedPredicate<JavaAnnotation<?>> annotationFromAnyPackage;
+
+    @Setup(Level.Trial)
+    public void prepareAnnotations() {
+        JavaClasses classes = BenchmarkCodebases.importClasses(BenchmarkCodebases.prepare(codebase));
+        fieldAnnotations = classes.stream()
+                .map(JavaClass::getFields)
+                .flatMap(Collection::stream)
+                .flatMap(javaField -> javaField.getAnnotations().stream())
+                .toList();
+        annotationFromAnyPackage = ArchitectureRules.annotationFromAnyPackage(
+                "javax.validation.constraints",
+                "jakarta.validation.constraints",
+                "org.hibernate.validator.constraints"
+        );
+    }
+
+    @Benchmark
+    public long annotationFromAnyPackage() {
+        return fieldAnnotations.stream().filter(annotationFromAnyPackage).count();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.archunitrules.benchmark;
+
+import com.example.archunitrules.common.matcher.WeightedTerm;
+import com.example.archunitrules.common.matcher.WeightedTermAutomaton;
+import com.example.archunitrules.enumeration.AgeRating;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class AgeRatingClassifierBenchmark {
+    private static final int DOCUMENTS = 1024;
+    private static final int DOCUMENT_LENGTH = 500;
+
+    @Param({"1000", "100000"})
+    private int terms;
+
+    private WeightedTermAutomaton automaton;
+    private String[] documents;
+    private double[] scores;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<WeightedTerm> dictionary = new ArrayList<>(terms);
+        for (int i = 0; i < terms; i++) {
+            dictionary.add(new WeightedTerm(word(random, 4 + random.nextInt(8)), random.nextInt(AgeRating.values().length), 0.5));
+        }
+        automaton = WeightedTermAutomaton.build(AgeRating.values().length, dictionary);
+        documents = new String[DOCUMENTS];
+        for (int i = 0; i < DOCUMENTS; i++) {
+            StringBuilder document = new StringBuilder(DOCUMENT_LENGTH);
+            while (document.length() < DOCUMENT_LENGTH) {
+                String word = random.nextInt(20) == 0
+                        ? dictionary.get(random.nextInt(terms)).term()
+                        : word(random, 2 + random.nextInt(9));
+                document.append(word).append(' ');
+            }
+            documents[i] = document.substring(0, DOCUMENT_LENGTH);
+        }
+        scores = new double[AgeRating.values().length];
+    }
+
+    @Benchmark
+    public double[] scoreDocument() {
+        automaton.score(documents[next++ & (DOCUMENTS - 1)], scores);
+        return scores;
+    }
+
+    private static String word(SplittableRandom random, int length) {
+        char[] word = new char[length];
+        for (int i = 0; i < length; i++) {
+            word[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(word);
+    }
+}
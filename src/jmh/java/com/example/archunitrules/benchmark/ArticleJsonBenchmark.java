@@ -0,0 +1,63 @@
+package com.example.archunitrules.benchmark;
+
+import com.example.archunitrules.controller.response.ArticleResponse;
+import com.example.archunitrules.json.CachedArticleJsonSerializer;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class ArticleJsonBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"jackson", "cached"})
+    private String serialization;
+
+    private ObjectMapper objectMapper;
+    private ArticleResponse article;
+    private Page<ArticleResponse> page;
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        objectMapper = JsonMapper.builder().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET).build();
+        if ("cached".equals(serialization)) {
+            objectMapper.registerModule(new SimpleModule().addSerializer(ArticleResponse.class, new CachedArticleJsonSerializer(
+                    new ConcurrentMapCache("article-json"),
+                    JsonMapper.builder().build().writerFor(ArticleResponse.class))));
+        }
+        List<ArticleResponse> articles = IntStream.range(0, PAGE_SIZE)
+                .mapToObj(i -> new ArticleResponse(UUID.randomUUID(), "Title " + i, "\u00c4".repeat(100) + "x".repeat(400), 0))
+                .toList();
+        article = articles.getFirst();
+        page = new PageImpl<>(articles, PageRequest.of(0, PAGE_SIZE), 1000);
+    }
+
+    @Benchmark
+    public void writeOne() throws IOException {
+        objectMapper.writeValue(sink, article);
+    }
+
+    @Benchmark
+    public void writePage() throws IOException {
+        objectMapper.writeValue(sink, page);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.archunitrules.benchmark;
+
+import com.example.archunitrules.util.TimeOrderedUuidUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class UuidInsertBenchmark {
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"v4", "v7"})
+    private String version;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private String table;
+
+    @Setup(Level.Trial)
+    public void createTable() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5432/postgres?reWriteBatchedInserts=true"),
+                System.getProperty("benchmark.jdbc.user", "postgres"),
+                System.getProperty("benchmark.jdbc.password", "qwerty123"));
+        connection.setAutoCommit(false);
+        table = "uuid_insert_benchmark_" + version;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists " + table);
+            statement.execute("create table " + table + " (id uuid primary key, title text not null)");
+        }
+        connection.commit();
+        insert = connection.prepareStatement("insert into " + table + " (id, title) values (?, ?)");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, nextId());
+            insert.setString(2, "title");
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void reportIndexSize() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select count(*), pg_relation_size('" + table + "_pkey') from " + table)) {
+            resultSet.next();
+            long rows = resultSet.getLong(1);
+            long indexBytes = resultSet.getLong(2);
+            System.out.printf("%n%s: %d rows, primary key index %d KiB (%.1f bytes per row)%n",
+                    version, rows, indexBytes / 1024, (double) indexBytes / rows);
+        }
+        insert.close();
+        connection.close();
+    }
+
+    private UUID nextId() {
+        return "v7".equals(version) ? TimeOrderedUuidUtils.generate() : UUID.randomUUID();
+    }
+}
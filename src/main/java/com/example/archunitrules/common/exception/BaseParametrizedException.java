@@ -8,6 +8,11 @@ public class BaseParametrizedException extends RuntimeException {
         this.parameter = parameter;
     }
 
+    protected BaseParametrizedException(String message, Object parameter, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.parameter = parameter;
+    }
+
     public String getFormattedMessage() {
         return this.getMessage().formatted(parameter);
     }
@@ -0,0 +1,58 @@
+package com.example.archunitrules.common.filter;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class BloomFilter {
+    private static final int MAX_HASH_COUNT = 16;
+    private static final double LN_2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Bloom filter needs positive insertions and a false positive rate in (0, 1)");
+        }
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN_2 * LN_2));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (optimalBits + 63) >>> 6));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount << 6;
+        this.hashCount = (int) Math.clamp(Math.round((double) bitCount / expectedInsertions * LN_2), 1, MAX_HASH_COUNT);
+    }
+
+    public void add(UUID id) {
+        long hash = mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+        long step = mix(hash) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash + i * step, bitCount);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            if ((words.get(word) & mask) == 0) {
+                words.accumulateAndGet(word, mask, (current, added) -> current | added);
+            }
+        }
+    }
+
+    public boolean mightContain(UUID id) {
+        long hash = mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+        long step = mix(hash) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash + i * step, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.archunitrules.common.matcher;
+
+public record WeightedTerm(
+        String term,
+        int category,
+        double weight
+) {
+}
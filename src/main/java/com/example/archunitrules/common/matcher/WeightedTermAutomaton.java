@@ -0,0 +1,173 @@
+package com.example.archunitrules.common.matcher;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.TreeMap;
+
+public class WeightedTermAutomaton {
+    private static final int ROOT = 0;
+    private static final int NO_STATE = -1;
+
+    private final int categories;
+    private final int[] edgeOffsets;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] failures;
+    private final int[] outputOffsets;
+    private final int[] outputTerms;
+    private final int[] termCategories;
+    private final double[] termWeights;
+    private final int[] termLengths;
+
+    private WeightedTermAutomaton(int categories, List<TreeMap<Character, Integer>> trie, List<List<Integer>> ownOutputs, List<WeightedTerm> terms) {
+        this.categories = categories;
+        int states = trie.size();
+        this.edgeOffsets = new int[states + 1];
+        int edges = 0;
+        for (int state = 0; state < states; state++) {
+            edgeOffsets[state] = edges;
+            edges += trie.get(state).size();
+        }
+        edgeOffsets[states] = edges;
+        this.edgeChars = new char[edges];
+        this.edgeTargets = new int[edges];
+        for (int state = 0; state < states; state++) {
+            int edge = edgeOffsets[state];
+            for (var child : trie.get(state).entrySet()) {
+                edgeChars[edge] = child.getKey();
+                edgeTargets[edge++] = child.getValue();
+            }
+        }
+
+        this.failures = new int[states];
+        List<List<Integer>> outputs = new ArrayList<>(ownOutputs);
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int edge = edgeOffsets[ROOT]; edge < edgeOffsets[ROOT + 1]; edge++) {
+            queue.add(edgeTargets[edge]);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            for (int edge = edgeOffsets[state]; edge < edgeOffsets[state + 1]; edge++) {
+                int child = edgeTargets[edge];
+                int failure = failures[state];
+                int next = child(failure, edgeChars[edge]);
+                while (next == NO_STATE && failure != ROOT) {
+                    failure = failures[failure];
+                    next = child(failure, edgeChars[edge]);
+                }
+                failures[child] = next == NO_STATE ? ROOT : next;
+                if (!outputs.get(failures[child]).isEmpty()) {
+                    List<Integer> merged = new ArrayList<>(outputs.get(child));
+                    merged.addAll(outputs.get(failures[child]));
+                    outputs.set(child, merged);
+                }
+                queue.add(child);
+            }
+        }
+
+        this.outputOffsets = new int[states + 1];
+        this.outputTerms = new int[outputs.stream().mapToInt(List::size).sum()];
+        int output = 0;
+        for (int state = 0; state < states; state++) {
+            outputOffsets[state] = output;
+            for (int term : outputs.get(state)) {
+                outputTerms[output++] = term;
+            }
+        }
+        outputOffsets[states] = output;
+
+        this.termCategories = terms.stream().mapToInt(WeightedTerm::category).toArray();
+        this.termWeights = terms.stream().mapToDouble(WeightedTerm::weight).toArray();
+        this.termLengths = terms.stream().mapToInt(term -> term.term().length()).toArray();
+    }
+
+    public static WeightedTermAutomaton build(int categories, Collection<WeightedTerm> terms) {
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> outputs = new ArrayList<>();
+        List<WeightedTerm> indexedTerms = new ArrayList<>(terms.size());
+        trie.add(new TreeMap<>());
+        outputs.add(List.of());
+        for (WeightedTerm term : terms) {
+            if (term.term().isBlank()) {
+                throw new IllegalArgumentException("Terms must not be blank");
+            }
+            if (term.category() < 0 || term.category() >= categories) {
+                throw new IllegalArgumentException("Term " + term.term() + " has unknown category " + term.category());
+            }
+            int state = ROOT;
+            for (int i = 0; i < term.term().length(); i++) {
+                char c = Character.toLowerCase(term.term().charAt(i));
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(state).put(c, next);
+                    trie.add(new TreeMap<>());
+                    outputs.add(List.of());
+                }
+                state = next;
+            }
+            List<Integer> stateOutputs = new ArrayList<>(outputs.get(state));
+            stateOutputs.add(indexedTerms.size());
+            outputs.set(state, stateOutputs);
+            indexedTerms.add(term);
+        }
+        return new WeightedTermAutomaton(categories, trie, outputs, indexedTerms);
+    }
+
+    public int categories() {
+        return categories;
+    }
+
+    public int states() {
+        return failures.length;
+    }
+
+    public void score(CharSequence text, double[] scores) {
+        if (scores.length < categories) {
+            throw new IllegalArgumentException("Scores need room for " + categories + " categories");
+        }
+        Arrays.fill(scores, 0, categories, 0);
+        int state = ROOT;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int next = child(state, c);
+            while (next == NO_STATE && state != ROOT) {
+                state = failures[state];
+                next = child(state, c);
+            }
+            state = next == NO_STATE ? ROOT : next;
+            for (int output = outputOffsets[state]; output < outputOffsets[state + 1]; output++) {
+                int term = outputTerms[output];
+                if (isWordBoundary(text, i - termLengths[term]) && isWordBoundary(text, i + 1)) {
+                    scores[termCategories[term]] += termWeights[term];
+                }
+            }
+        }
+    }
+
+    private int child(int state, char c) {
+        int low = edgeOffsets[state];
+        int high = edgeOffsets[state + 1] - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char edge = edgeChars[middle];
+            if (edge < c) {
+                low = middle + 1;
+            } else if (edge > c) {
+                high = middle - 1;
+            } else {
+                return edgeTargets[middle];
+            }
+        }
+        return NO_STATE;
+    }
+
+    private static boolean isWordBoundary(CharSequence text, int index) {
+        return index < 0 || index >= text.length() || !Character.isLetterOrDigit(text.charAt(index));
+    }
+}
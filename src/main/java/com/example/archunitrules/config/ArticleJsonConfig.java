@@ -0,0 +1,37 @@
+package com.example.archunitrules.config;
+
+import com.example.archunitrules.constant.ArticleConstants;
+import com.example.archunitrules.controller.response.ArticleResponse;
+import com.example.archunitrules.json.CachedArticleJsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "article.json-cache.enabled", havingValue = "true")
+public class ArticleJsonConfig implements WebMvcConfigurer {
+    private final CacheManager cacheManager;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (HttpMessageConverter<?> converter : converters) {
+            if (converter instanceof MappingJackson2HttpMessageConverter jsonConverter) {
+                ObjectMapper objectMapper = jsonConverter.getObjectMapper();
+                CachedArticleJsonSerializer serializer = new CachedArticleJsonSerializer(
+                        cacheManager.getCache(ArticleConstants.ARTICLE_JSON_CACHE),
+                        objectMapper.writerFor(ArticleResponse.class));
+                jsonConverter.setObjectMapper(objectMapper.copy()
+                        .registerModule(new SimpleModule("CachedArticleJson").addSerializer(ArticleResponse.class, serializer)));
+            }
+        }
+    }
+}
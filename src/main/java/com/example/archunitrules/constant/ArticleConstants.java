@@ -5,4 +5,20 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public class ArticleConstants {
     public static final String SOME_CONSTANT = "Some constant";
+    public static final int DEFAULT_CURSOR_PAGE_SIZE = 20;
+    public static final int MAX_CURSOR_PAGE_SIZE = 100;
+    public static final int EXPORT_FETCH_SIZE = 500;
+    public static final int BULK_CREATE_MAX_ITEMS = 10_000;
+    public static final int BULK_CREATE_CHUNK_SIZE = 500;
+    public static final int BULK_CREATE_WORKER_COUNT = 4;
+    public static final String ARTICLE_CACHE = "articles";
+    public static final String ARTICLE_JSON_CACHE = "article-json";
+    public static final long ID_FILTER_MIN_CAPACITY = 1_000_000L;
+    public static final double ID_FILTER_FALSE_POSITIVE_RATE = 0.01;
+    public static final long ID_FILTER_RECHECK_MARGIN_MILLIS = 60_000L;
+    public static final double AGE_RATING_SCORE_THRESHOLD = 1.0;
+    public static final int RATING_QUEUE_CAPACITY = 10_000;
+    public static final int RATING_BATCH_SIZE = 100;
+    public static final int RATING_WORKER_COUNT = 2;
+    public static final long RATING_SHUTDOWN_SECONDS = 10;
 }
@@ -1,17 +1,35 @@
 package com.example.archunitrules.controller;
 
+import com.example.archunitrules.constant.ArticleConstants;
+import com.example.archunitrules.controller.request.BulkCreateArticleRq;
 import com.example.archunitrules.controller.request.CreateArticleRq;
+import com.example.archunitrules.controller.response.ArticleCursorPageResponse;
+import com.example.archunitrules.controller.response.ArticleRatingResponse;
 import com.example.archunitrules.controller.response.ArticleResponse;
+import com.example.archunitrules.controller.response.BulkCreateArticleResponse;
 import com.example.archunitrules.service.ArticleService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 @RestController
@@ -21,6 +39,7 @@ public class ArticleController {
     public static final String PATH = "/v1/article";
 
     private final ArticleService articleService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("")
     public ResponseEntity<Void> create(@Valid @RequestBody CreateArticleRq request) {
@@ -28,13 +47,70 @@ public class ArticleController {
         return ResponseEntity.created(URI.create(PATH + "/" + createdArticleId)).build();
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Create up to " + ArticleConstants.BULK_CREATE_MAX_ITEMS + " articles in chunked transactions")
+    @ApiResponse(responseCode = "200", description = "The result of every item, in request order")
+    public BulkCreateArticleResponse createAll(@Valid @RequestBody BulkCreateArticleRq request) {
+        return articleService.createAll(request.articles().iterator());
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Create up to " + ArticleConstants.BULK_CREATE_MAX_ITEMS + " articles streamed as newline-delimited JSON in chunked transactions")
+    @ApiResponse(responseCode = "200", description = "The result of every item, in request order; unparseable lines are rejected and unread items are reported as one rejected item")
+    public BulkCreateArticleResponse createAllStreamed(InputStream body) throws IOException {
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            return articleService.createAllFromLines(lines.lines().filter(line -> !line.isBlank()).iterator());
+        }
+    }
+
     @GetMapping("")
-    public Page<ArticleResponse> getPage(@PageableDefault Pageable pageable) {
-        return articleService.getPage(pageable);
+    public Page<ArticleResponse> getPage(@PageableDefault Pageable pageable, WebRequest webRequest) {
+        Page<ArticleResponse> page = articleService.getPage(pageable);
+        if (webRequest.checkNotModified(articleService.getPageETag(page))) {
+            return null;
+        }
+        return page;
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "Get articles after an opaque cursor")
+    @ApiResponse(responseCode = "200", description = "Articles ordered by id and a cursor to the next page, if any")
+    public ArticleCursorPageResponse getCursorPage(@RequestParam(required = false) String cursor,
+                                                   @RequestParam(required = false) Integer size) {
+        return articleService.getCursorPage(cursor, size);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all articles as newline-delimited JSON")
+    @ApiResponse(responseCode = "200", description = "One article per line, ordered by id")
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> articleService.export(article -> writeLine(outputStream, article)));
     }
 
     @GetMapping("/{id}")
-    public ArticleResponse getOne(@PathVariable UUID id) {
-        return articleService.getOne(id);
+    public ArticleResponse getOne(@PathVariable UUID id, WebRequest webRequest) {
+        ArticleResponse article = articleService.getOne(id);
+        if (webRequest.checkNotModified(articleService.getETag(article))) {
+            return null;
+        }
+        return article;
+    }
+
+    @GetMapping("/{id}/rating")
+    @Operation(summary = "Get the age rating status of an article")
+    @ApiResponse(responseCode = "200", description = "PENDING until the rating pipeline has classified the article, then RATED with its age rating")
+    public ArticleRatingResponse getRating(@PathVariable UUID id) {
+        return articleService.getRating(id);
+    }
+
+    private void writeLine(OutputStream outputStream, ArticleResponse article) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(article));
+            outputStream.write('\n');
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
     }
 }
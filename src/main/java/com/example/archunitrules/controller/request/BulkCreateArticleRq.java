@@ -0,0 +1,14 @@
+package com.example.archunitrules.controller.request;
+
+import com.example.archunitrules.constant.ArticleConstants;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkCreateArticleRq(
+        @NotNull
+        @Size(max = ArticleConstants.BULK_CREATE_MAX_ITEMS)
+        List<CreateArticleRq> articles
+) {
+}
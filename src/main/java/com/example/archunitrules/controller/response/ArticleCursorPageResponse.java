@@ -0,0 +1,12 @@
+package com.example.archunitrules.controller.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record ArticleCursorPageResponse(
+        List<ArticleResponse> items,
+        String nextCursor
+) {
+}
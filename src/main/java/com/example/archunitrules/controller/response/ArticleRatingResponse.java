@@ -0,0 +1,15 @@
+package com.example.archunitrules.controller.response;
+
+import com.example.archunitrules.enumeration.AgeRating;
+import com.example.archunitrules.enumeration.RatingStatus;
+import lombok.Builder;
+
+import java.util.UUID;
+
+@Builder
+public record ArticleRatingResponse(
+        UUID id,
+        RatingStatus status,
+        AgeRating ageRating
+) {
+}
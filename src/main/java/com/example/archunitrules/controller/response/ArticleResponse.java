@@ -1,5 +1,6 @@
 package com.example.archunitrules.controller.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 
 import java.util.UUID;
@@ -8,6 +9,7 @@ import java.util.UUID;
 public record ArticleResponse(
         UUID id,
         String title,
-        String content
+        String content,
+        @JsonIgnore long version
 ) {
 }
@@ -0,0 +1,15 @@
+package com.example.archunitrules.controller.response;
+
+import com.example.archunitrules.enumeration.BulkItemStatus;
+import lombok.Builder;
+
+import java.util.UUID;
+
+@Builder
+public record BulkCreateArticleItemResponse(
+        int index,
+        BulkItemStatus status,
+        UUID id,
+        String error
+) {
+}
@@ -0,0 +1,13 @@
+package com.example.archunitrules.controller.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record BulkCreateArticleResponse(
+        int created,
+        int failed,
+        List<BulkCreateArticleItemResponse> items
+) {
+}
@@ -1,13 +1,18 @@
 package com.example.archunitrules.entity;
 
 import com.example.archunitrules.enumeration.AgeRating;
+import com.example.archunitrules.enumeration.RatingStatus;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.proxy.HibernateProxy;
+import org.springframework.data.domain.Persistable;
 
 import java.util.Objects;
 import java.util.UUID;
@@ -19,7 +24,9 @@ import java.util.UUID;
 @AllArgsConstructor
 @Accessors(fluent = true)
 @Table(name = "article")
-public class Article {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+public class Article implements Persistable<UUID> {
     @Id
     private UUID id;
 
@@ -30,6 +37,32 @@ public class Article {
     @Enumerated(EnumType.STRING)
     private AgeRating ageRating;
 
+    @Enumerated(EnumType.STRING)
+    private RatingStatus ratingStatus;
+
+    @Version
+    private Long version;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+
     @Override
     public boolean equals(Object another) {
         if (this == another) return true;
@@ -0,0 +1,7 @@
+package com.example.archunitrules.enumeration;
+
+public enum BulkItemStatus {
+    CREATED,
+    REJECTED,
+    FAILED
+}
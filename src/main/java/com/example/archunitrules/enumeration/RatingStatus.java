@@ -0,0 +1,6 @@
+package com.example.archunitrules.enumeration;
+
+public enum RatingStatus {
+    PENDING,
+    RATED
+}
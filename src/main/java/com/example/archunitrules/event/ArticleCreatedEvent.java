@@ -0,0 +1,8 @@
+package com.example.archunitrules.event;
+
+import java.util.UUID;
+
+public record ArticleCreatedEvent(
+        UUID id
+) {
+}
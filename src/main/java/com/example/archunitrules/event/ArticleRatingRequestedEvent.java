@@ -0,0 +1,9 @@
+package com.example.archunitrules.event;
+
+import java.util.UUID;
+
+public record ArticleRatingRequestedEvent(
+        UUID id,
+        String content
+) {
+}
@@ -0,0 +1,9 @@
+package com.example.archunitrules.exception;
+
+import com.example.archunitrules.common.exception.BaseParametrizedException;
+
+public class InvalidCursorException extends BaseParametrizedException {
+    public InvalidCursorException(Object parameter) {
+        super("Cursor %s is invalid", parameter);
+    }
+}
@@ -2,6 +2,7 @@ package com.example.archunitrules.handler;
 
 import com.example.archunitrules.common.dto.ErrorDetails;
 import com.example.archunitrules.exception.ArticleNotFoundException;
+import com.example.archunitrules.exception.InvalidCursorException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -14,4 +15,10 @@ public class ArticleExceptionHandler {
         ErrorDetails errorDetails = new ErrorDetails(exception.getFormattedMessage());
         return new ResponseEntity<>(errorDetails, HttpStatus.NOT_FOUND);
     }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorDetails> handleInvalidCursorException(InvalidCursorException exception) {
+        ErrorDetails errorDetails = new ErrorDetails(exception.getFormattedMessage());
+        return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+    }
 }
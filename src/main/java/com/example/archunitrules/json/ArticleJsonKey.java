@@ -0,0 +1,9 @@
+package com.example.archunitrules.json;
+
+import java.util.UUID;
+
+public record ArticleJsonKey(
+        UUID id,
+        long version
+) {
+}
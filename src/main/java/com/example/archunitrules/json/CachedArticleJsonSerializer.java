@@ -0,0 +1,39 @@
+package com.example.archunitrules.json;
+
+import com.example.archunitrules.controller.response.ArticleResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.cache.Cache;
+
+import java.io.IOException;
+
+public class CachedArticleJsonSerializer extends StdSerializer<ArticleResponse> {
+    private final transient Cache cache;
+    private final transient ObjectWriter writer;
+
+    public CachedArticleJsonSerializer(Cache cache, ObjectWriter writer) {
+        super(ArticleResponse.class);
+        this.cache = cache;
+        this.writer = writer;
+    }
+
+    @Override
+    public void serialize(ArticleResponse value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeRawValue(json(value));
+    }
+
+    private SerializedString json(ArticleResponse value) throws IOException {
+        ArticleJsonKey key = new ArticleJsonKey(value.id(), value.version());
+        SerializedString cached = cache.get(key, SerializedString.class);
+        if (cached != null) {
+            return cached;
+        }
+        SerializedString json = new SerializedString(writer.writeValueAsString(value));
+        json.asUnquotedUTF8();
+        cache.put(key, json);
+        return json;
+    }
+}
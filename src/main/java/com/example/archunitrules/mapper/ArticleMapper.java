@@ -1,21 +1,31 @@
 package com.example.archunitrules.mapper;
 
 import com.example.archunitrules.controller.request.CreateArticleRq;
+import com.example.archunitrules.controller.response.ArticleCursorPageResponse;
+import com.example.archunitrules.controller.response.ArticleRatingResponse;
 import com.example.archunitrules.controller.response.ArticleResponse;
+import com.example.archunitrules.controller.response.BulkCreateArticleItemResponse;
+import com.example.archunitrules.controller.response.BulkCreateArticleResponse;
 import com.example.archunitrules.entity.Article;
 import com.example.archunitrules.enumeration.AgeRating;
+import com.example.archunitrules.enumeration.BulkItemStatus;
+import com.example.archunitrules.enumeration.RatingStatus;
+import com.example.archunitrules.repository.projection.ArticleRating;
+import com.example.archunitrules.util.TimeOrderedUuidUtils;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.UUID;
 
 @Component
 public class ArticleMapper {
     public Article toEntity(CreateArticleRq request, AgeRating ageRating) {
         return Article.builder()
-                .id(UUID.randomUUID())
+                .id(TimeOrderedUuidUtils.generate())
                 .title(request.title())
                 .content(request.content())
                 .ageRating(ageRating)
+                .ratingStatus(ageRating == null ? RatingStatus.PENDING : RatingStatus.RATED)
                 .build();
     }
 
@@ -24,6 +34,40 @@ public class ArticleMapper {
                 .id(entity.id())
                 .title(entity.title())
                 .content(entity.content())
+                .version(entity.version() == null ? 0 : entity.version())
+                .build();
+    }
+
+    public ArticleRatingResponse toResponse(ArticleRating rating) {
+        return ArticleRatingResponse.builder()
+                .id(rating.getId())
+                .status(rating.getRatingStatus() == null ? RatingStatus.RATED : rating.getRatingStatus())
+                .ageRating(rating.getAgeRating())
+                .build();
+    }
+
+    public ArticleCursorPageResponse toResponse(List<Article> entities, String nextCursor) {
+        return ArticleCursorPageResponse.builder()
+                .items(entities.stream().map(this::toResponse).toList())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    public BulkCreateArticleItemResponse toResponse(int index, BulkItemStatus status, UUID id, String error) {
+        return BulkCreateArticleItemResponse.builder()
+                .index(index)
+                .status(status)
+                .id(id)
+                .error(error)
+                .build();
+    }
+
+    public BulkCreateArticleResponse toResponse(List<BulkCreateArticleItemResponse> items) {
+        int created = (int) items.stream().filter(item -> item.status() == BulkItemStatus.CREATED).count();
+        return BulkCreateArticleResponse.builder()
+                .created(created)
+                .failed(items.size() - created)
+                .items(items)
                 .build();
     }
 }
@@ -1,9 +1,22 @@
 package com.example.archunitrules.repository;
 
 import com.example.archunitrules.entity.Article;
+import com.example.archunitrules.enumeration.RatingStatus;
+import com.example.archunitrules.repository.custom.ArticleRepositoryCustom;
+import com.example.archunitrules.repository.projection.ArticleRating;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-public interface ArticleRepository extends JpaRepository<Article, UUID> {
+public interface ArticleRepository extends JpaRepository<Article, UUID>, ArticleRepositoryCustom {
+    List<Article> findAllByOrderByIdAsc(Limit limit);
+
+    List<Article> findAllByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
+    Optional<ArticleRating> findRatingById(UUID id);
+
+    List<Article> findAllByRatingStatus(RatingStatus ratingStatus, Limit limit);
 }
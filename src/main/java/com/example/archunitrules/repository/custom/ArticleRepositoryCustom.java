@@ -0,0 +1,16 @@
+package com.example.archunitrules.repository.custom;
+
+import com.example.archunitrules.entity.Article;
+import com.example.archunitrules.enumeration.AgeRating;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface ArticleRepositoryCustom {
+    void forEachOrderedById(Consumer<Article> action);
+
+    void forEachId(Consumer<UUID> action);
+
+    void updateAgeRatings(Map<UUID, AgeRating> ageRatings);
+}
@@ -0,0 +1,68 @@
+package com.example.archunitrules.repository.custom.impl;
+
+import com.example.archunitrules.constant.ArticleConstants;
+import com.example.archunitrules.entity.Article;
+import com.example.archunitrules.enumeration.AgeRating;
+import com.example.archunitrules.repository.custom.ArticleRepositoryCustom;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+public class ArticleRepositoryCustomImpl implements ArticleRepositoryCustom {
+    private static final String SELECT_ALL_ORDERED_BY_ID = "select id, title, content, age_rating from article order by id";
+    private static final String SELECT_ALL_IDS = "select id from article";
+    private static final String UPDATE_AGE_RATING = "update article set age_rating = ?, rating_status = 'RATED' where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void forEachOrderedById(Consumer<Article> action) {
+        jdbcTemplate.query(connection -> streamingStatement(connection, SELECT_ALL_ORDERED_BY_ID),
+                (RowCallbackHandler) resultSet -> action.accept(toArticle(resultSet)));
+    }
+
+    @Override
+    public void forEachId(Consumer<UUID> action) {
+        jdbcTemplate.query(connection -> streamingStatement(connection, SELECT_ALL_IDS),
+                (RowCallbackHandler) resultSet -> action.accept(resultSet.getObject("id", UUID.class)));
+    }
+
+    @Override
+    public void updateAgeRatings(Map<UUID, AgeRating> ageRatings) {
+        List<Object[]> arguments = new ArrayList<>(ageRatings.size());
+        ageRatings.forEach((id, ageRating) -> arguments.add(new Object[]{ageRating.name(), id}));
+        jdbcTemplate.batchUpdate(UPDATE_AGE_RATING, arguments);
+        Cache secondLevelCache = entityManagerFactory.getCache();
+        ageRatings.keySet().forEach(id -> secondLevelCache.evict(Article.class, id));
+    }
+
+    private static PreparedStatement streamingStatement(Connection connection, String sql) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchSize(ArticleConstants.EXPORT_FETCH_SIZE);
+        return statement;
+    }
+
+    private static Article toArticle(ResultSet resultSet) throws SQLException {
+        String ageRating = resultSet.getString("age_rating");
+        return Article.builder()
+                .id(resultSet.getObject("id", UUID.class))
+                .title(resultSet.getString("title"))
+                .content(resultSet.getString("content"))
+                .ageRating(ageRating == null ? null : AgeRating.valueOf(ageRating))
+                .build();
+    }
+}
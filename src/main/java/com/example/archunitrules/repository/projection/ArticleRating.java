@@ -0,0 +1,14 @@
+package com.example.archunitrules.repository.projection;
+
+import com.example.archunitrules.enumeration.AgeRating;
+import com.example.archunitrules.enumeration.RatingStatus;
+
+import java.util.UUID;
+
+public interface ArticleRating {
+    UUID getId();
+
+    AgeRating getAgeRating();
+
+    RatingStatus getRatingStatus();
+}
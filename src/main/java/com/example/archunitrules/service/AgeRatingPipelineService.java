@@ -0,0 +1,5 @@
+package com.example.archunitrules.service;
+
+public interface AgeRatingPipelineService {
+    boolean isEnabled();
+}
@@ -0,0 +1,9 @@
+package com.example.archunitrules.service;
+
+import com.example.archunitrules.enumeration.AgeRating;
+
+public interface AgeRatingService {
+    AgeRating determineAgeRating(String content);
+
+    void reloadDictionary();
+}
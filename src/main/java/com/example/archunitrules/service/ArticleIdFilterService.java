@@ -0,0 +1,9 @@
+package com.example.archunitrules.service;
+
+import java.util.UUID;
+
+public interface ArticleIdFilterService {
+    boolean mightExist(UUID id);
+
+    void rebuild();
+}
@@ -1,16 +1,35 @@
 package com.example.archunitrules.service;
 
 import com.example.archunitrules.controller.request.CreateArticleRq;
+import com.example.archunitrules.controller.response.ArticleCursorPageResponse;
+import com.example.archunitrules.controller.response.ArticleRatingResponse;
 import com.example.archunitrules.controller.response.ArticleResponse;
+import com.example.archunitrules.controller.response.BulkCreateArticleResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Iterator;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface ArticleService {
     UUID create(CreateArticleRq request);
 
+    BulkCreateArticleResponse createAll(Iterator<CreateArticleRq> requests);
+
+    BulkCreateArticleResponse createAllFromLines(Iterator<String> lines);
+
     Page<ArticleResponse> getPage(Pageable pageable);
 
+    ArticleCursorPageResponse getCursorPage(String cursor, Integer size);
+
+    void export(Consumer<ArticleResponse> action);
+
+    String getPageETag(Page<ArticleResponse> page);
+
     ArticleResponse getOne(UUID id);
+
+    String getETag(ArticleResponse article);
+
+    ArticleRatingResponse getRating(UUID id);
 }
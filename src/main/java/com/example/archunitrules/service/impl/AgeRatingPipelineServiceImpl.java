@@ -0,0 +1,183 @@
+package com.example.archunitrules.service.impl;
+
+import com.example.archunitrules.constant.ArticleConstants;
+import com.example.archunitrules.entity.Article;
+import com.example.archunitrules.enumeration.AgeRating;
+import com.example.archunitrules.enumeration.RatingStatus;
+import com.example.archunitrules.event.ArticleRatingRequestedEvent;
+import com.example.archunitrules.repository.ArticleRepository;
+import com.example.archunitrules.service.AgeRatingPipelineService;
+import com.example.archunitrules.service.AgeRatingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class AgeRatingPipelineServiceImpl implements AgeRatingPipelineService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AgeRatingPipelineServiceImpl.class);
+
+    private final boolean enabled;
+    private final AgeRatingService ageRatingService;
+    private final ArticleRepository articleRepository;
+    private final BlockingQueue<ArticleRatingRequestedEvent> queue = new ArrayBlockingQueue<>(ArticleConstants.RATING_QUEUE_CAPACITY);
+    private final Set<UUID> queued = ConcurrentHashMap.newKeySet();
+    private final Counter enqueued;
+    private final Counter callerRuns;
+    private final Counter rated;
+    private final Counter failed;
+    private final Timer batches;
+
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    public AgeRatingPipelineServiceImpl(@Value("${article.age-rating.async.enabled:false}") boolean enabled,
+                                        AgeRatingService ageRatingService,
+                                        ArticleRepository articleRepository,
+                                        MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.ageRatingService = ageRatingService;
+        this.articleRepository = articleRepository;
+        meterRegistry.gaugeCollectionSize("article.rating.queue.size", List.of(), queue);
+        meterRegistry.gauge("article.rating.queue.remaining", queue, BlockingQueue::remainingCapacity);
+        this.enqueued = meterRegistry.counter("article.rating.enqueued");
+        this.callerRuns = meterRegistry.counter("article.rating.caller.runs");
+        this.rated = meterRegistry.counter("article.rating.rated");
+        this.failed = meterRegistry.counter("article.rating.failed");
+        this.batches = meterRegistry.timer("article.rating.batch");
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        workers = Executors.newFixedThreadPool(ArticleConstants.RATING_WORKER_COUNT, Thread.ofPlatform().name("age-rating-", 0).daemon().factory());
+        for (int i = 0; i < ArticleConstants.RATING_WORKER_COUNT; i++) {
+            workers.execute(this::work);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (workers == null) {
+            return;
+        }
+        running = false;
+        workers.shutdown();
+        workers.awaitTermination(ArticleConstants.RATING_SHUTDOWN_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @Scheduled(fixedDelayString = "${article.age-rating.pending-sweep-interval:PT5M}")
+    public void requeuePending() {
+        if (!enabled) {
+            return;
+        }
+        for (Article article : articleRepository.findAllByRatingStatus(RatingStatus.PENDING, Limit.of(ArticleConstants.RATING_QUEUE_CAPACITY))) {
+            if (queued.contains(article.id())) {
+                continue;
+            }
+            if (!offer(new ArticleRatingRequestedEvent(article.id(), article.content()))) {
+                return;
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onRatingRequested(ArticleRatingRequestedEvent event) {
+        if (!offer(event)) {
+            callerRuns.increment();
+            rate(List.of(event));
+        }
+    }
+
+    private boolean offer(ArticleRatingRequestedEvent event) {
+        if (!queued.add(event.id())) {
+            return true;
+        }
+        if (!queue.offer(event)) {
+            queued.remove(event.id());
+            return false;
+        }
+        enqueued.increment();
+        return true;
+    }
+
+    private void work() {
+        List<ArticleRatingRequestedEvent> batch = new ArrayList<>(ArticleConstants.RATING_BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            try {
+                ArticleRatingRequestedEvent first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, ArticleConstants.RATING_BATCH_SIZE - 1);
+                rate(batch);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException exception) {
+                LOGGER.error("Age rating batch of articles {} failed", ids(batch), exception);
+            } finally {
+                batch.forEach(event -> queued.remove(event.id()));
+                batch.clear();
+            }
+        }
+    }
+
+    private void rate(List<ArticleRatingRequestedEvent> batch) {
+        batches.record(() -> {
+            Map<UUID, AgeRating> ageRatings = new LinkedHashMap<>();
+            for (ArticleRatingRequestedEvent event : batch) {
+                try {
+                    ageRatings.put(event.id(), ageRatingService.determineAgeRating(event.content()));
+                } catch (RuntimeException exception) {
+                    failed.increment();
+                    LOGGER.warn("Could not determine the age rating of article {}, it stays pending until the next sweep", event.id(), exception);
+                }
+            }
+            if (ageRatings.isEmpty()) {
+                return;
+            }
+            try {
+                articleRepository.updateAgeRatings(ageRatings);
+                rated.increment(ageRatings.size());
+            } catch (RuntimeException exception) {
+                failed.increment(ageRatings.size());
+                LOGGER.warn("Could not store the age ratings of articles {}, they stay pending until the next sweep", ageRatings.keySet(), exception);
+            }
+        });
+    }
+
+    private static List<UUID> ids(List<ArticleRatingRequestedEvent> batch) {
+        return batch.stream().map(ArticleRatingRequestedEvent::id).toList();
+    }
+}
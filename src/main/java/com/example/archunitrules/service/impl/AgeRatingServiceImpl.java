@@ -0,0 +1,109 @@
+package com.example.archunitrules.service.impl;
+
+import com.example.archunitrules.common.matcher.WeightedTerm;
+import com.example.archunitrules.common.matcher.WeightedTermAutomaton;
+import com.example.archunitrules.constant.ArticleConstants;
+import com.example.archunitrules.enumeration.AgeRating;
+import com.example.archunitrules.service.AgeRatingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class AgeRatingServiceImpl implements AgeRatingService, SchedulingConfigurer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AgeRatingServiceImpl.class);
+    private static final AgeRating[] AGE_RATINGS = AgeRating.values();
+
+    private final Resource dictionary;
+    private final Duration reloadInterval;
+    private final ThreadLocal<double[]> scores = ThreadLocal.withInitial(() -> new double[AGE_RATINGS.length]);
+
+    private volatile WeightedTermAutomaton automaton;
+    private volatile long dictionaryLastModified;
+
+    public AgeRatingServiceImpl(ResourceLoader resourceLoader,
+                                @Value("${article.age-rating.dictionary:classpath:age-rating/dictionary.tsv}") String dictionaryLocation,
+                                @Value("${article.age-rating.reload-interval:PT1M}") Duration reloadInterval) {
+        this.dictionary = resourceLoader.getResource(dictionaryLocation);
+        this.reloadInterval = reloadInterval;
+        reloadDictionary();
+    }
+
+    @Override
+    public AgeRating determineAgeRating(String content) {
+        double[] ratingScores = scores.get();
+        automaton.score(content, ratingScores);
+        for (int rating = AGE_RATINGS.length - 1; rating > 0; rating--) {
+            if (ratingScores[rating] >= ArticleConstants.AGE_RATING_SCORE_THRESHOLD) {
+                return AGE_RATINGS[rating];
+            }
+        }
+        return AGE_RATINGS[0];
+    }
+
+    @Override
+    public synchronized void reloadDictionary() {
+        long lastModified = lastModified();
+        automaton = WeightedTermAutomaton.build(AGE_RATINGS.length, readTerms());
+        dictionaryLastModified = lastModified;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        if (dictionary.isFile()) {
+            taskRegistrar.addFixedDelayTask(this::reloadChangedDictionary, reloadInterval);
+        } else {
+            LOGGER.info("Age rating dictionary {} is not a file and will not be reloaded when it changes", dictionary);
+        }
+    }
+
+    private void reloadChangedDictionary() {
+        if (lastModified() != dictionaryLastModified) {
+            reloadDictionary();
+        }
+    }
+
+    private long lastModified() {
+        try {
+            return dictionary.isFile() ? dictionary.lastModified() : 0;
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Could not check age rating dictionary " + dictionary, exception);
+        }
+    }
+
+    private List<WeightedTerm> readTerms() {
+        List<WeightedTerm> terms = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(dictionary.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t", 3);
+                if (columns.length != 3) {
+                    throw new IllegalArgumentException("Line " + lineNumber + " of " + dictionary + " must be <rating>\\t<weight>\\t<term>");
+                }
+                terms.add(new WeightedTerm(columns[2].strip(), AgeRating.valueOf(columns[0].strip()).ordinal(), Double.parseDouble(columns[1].strip())));
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Could not read age rating dictionary " + dictionary, exception);
+        }
+        return terms;
+    }
+}
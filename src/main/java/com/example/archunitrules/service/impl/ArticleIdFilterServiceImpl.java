@@ -0,0 +1,92 @@
+package com.example.archunitrules.service.impl;
+
+import com.example.archunitrules.common.filter.BloomFilter;
+import com.example.archunitrules.constant.ArticleConstants;
+import com.example.archunitrules.event.ArticleCreatedEvent;
+import com.example.archunitrules.repository.ArticleRepository;
+import com.example.archunitrules.service.ArticleIdFilterService;
+import com.example.archunitrules.util.TimeOrderedUuidUtils;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Service
+@RequiredArgsConstructor
+public class ArticleIdFilterServiceImpl implements ArticleIdFilterService {
+    private final ArticleRepository articleRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile BloomFilter current;
+    private volatile long recheckFrom;
+    private BloomFilter pending;
+
+    @Override
+    public boolean mightExist(UUID id) {
+        long coveredBefore = recheckFrom;
+        BloomFilter filter = current;
+        if (filter == null || filter.mightContain(id)) {
+            return true;
+        }
+        if (!TimeOrderedUuidUtils.isTimeOrdered(id) || TimeOrderedUuidUtils.timestamp(id) < coveredBefore) {
+            return false;
+        }
+        if (!articleRepository.existsById(id)) {
+            return false;
+        }
+        add(id);
+        return true;
+    }
+
+    private void add(UUID id) {
+        lock.readLock().lock();
+        try {
+            if (current != null) {
+                current.add(id);
+            }
+            if (pending != null) {
+                pending.add(id);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onArticleCreated(ArticleCreatedEvent event) {
+        add(event.id());
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(initialDelay = 0, fixedDelayString = "${article.id-filter.rebuild-interval:PT1H}")
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        long expectedInsertions = Math.max(ArticleConstants.ID_FILTER_MIN_CAPACITY, 2 * articleRepository.count());
+        BloomFilter rebuilt = new BloomFilter(expectedInsertions, ArticleConstants.ID_FILTER_FALSE_POSITIVE_RATE);
+        publish(current, rebuilt, recheckFrom);
+        try {
+            articleRepository.forEachId(rebuilt::add);
+        } catch (RuntimeException exception) {
+            publish(current, null, recheckFrom);
+            throw exception;
+        }
+        publish(rebuilt, null, startedAt - ArticleConstants.ID_FILTER_RECHECK_MARGIN_MILLIS);
+    }
+
+    private void publish(BloomFilter current, BloomFilter pending, long recheckFrom) {
+        lock.writeLock().lock();
+        try {
+            this.current = current;
+            this.pending = pending;
+            this.recheckFrom = recheckFrom;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
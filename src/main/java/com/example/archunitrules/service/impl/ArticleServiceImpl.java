@@ -1,36 +1,212 @@
 package com.example.archunitrules.service.impl;
 
+import com.example.archunitrules.constant.ArticleConstants;
 import com.example.archunitrules.controller.request.CreateArticleRq;
+import com.example.archunitrules.controller.response.ArticleCursorPageResponse;
+import com.example.archunitrules.controller.response.ArticleRatingResponse;
 import com.example.archunitrules.controller.response.ArticleResponse;
+import com.example.archunitrules.controller.response.BulkCreateArticleItemResponse;
+import com.example.archunitrules.controller.response.BulkCreateArticleResponse;
 import com.example.archunitrules.entity.Article;
 import com.example.archunitrules.enumeration.AgeRating;
+import com.example.archunitrules.enumeration.BulkItemStatus;
+import com.example.archunitrules.enumeration.RatingStatus;
+import com.example.archunitrules.event.ArticleCreatedEvent;
+import com.example.archunitrules.event.ArticleRatingRequestedEvent;
 import com.example.archunitrules.exception.ArticleNotFoundException;
 import com.example.archunitrules.mapper.ArticleMapper;
 import com.example.archunitrules.repository.ArticleRepository;
+import com.example.archunitrules.service.AgeRatingPipelineService;
+import com.example.archunitrules.service.AgeRatingService;
+import com.example.archunitrules.service.ArticleIdFilterService;
 import com.example.archunitrules.service.ArticleService;
-import com.example.archunitrules.util.AgeRatingDeterminationUtils;
+import com.example.archunitrules.util.CursorUtils;
+import com.example.archunitrules.util.ETagUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
 import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
 public class ArticleServiceImpl implements ArticleService {
     private final ArticleMapper articleMapper;
     private final ArticleRepository articleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ArticleIdFilterService articleIdFilterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AgeRatingService ageRatingService;
+    private final AgeRatingPipelineService ageRatingPipelineService;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService bulkCreateExecutor = new ThreadPoolExecutor(
+            ArticleConstants.BULK_CREATE_WORKER_COUNT,
+            ArticleConstants.BULK_CREATE_WORKER_COUNT,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(ArticleConstants.BULK_CREATE_CHUNK_SIZE),
+            Thread.ofPlatform().name("bulk-create-", 0).daemon().factory(),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+    );
+
+    @PreDestroy
+    void stop() {
+        bulkCreateExecutor.shutdown();
+    }
 
     @Override
     @Transactional
     public UUID create(CreateArticleRq request) {
-        AgeRating ageRating = AgeRatingDeterminationUtils.determineAgeRating(request.content());
+        AgeRating ageRating = determineAgeRating(request.content());
         Article article = articleMapper.toEntity(request, ageRating);
+        publishCreated(article);
         return articleRepository.save(article).id();
     }
 
+    private AgeRating determineAgeRating(String content) {
+        return ageRatingPipelineService.isEnabled() ? null : ageRatingService.determineAgeRating(content);
+    }
+
+    private void publishCreated(Article article) {
+        eventPublisher.publishEvent(new ArticleCreatedEvent(article.id()));
+        if (article.ratingStatus() == RatingStatus.PENDING) {
+            eventPublisher.publishEvent(new ArticleRatingRequestedEvent(article.id(), article.content()));
+        }
+    }
+
+    @Override
+    public BulkCreateArticleResponse createAll(Iterator<CreateArticleRq> requests) {
+        return createAll(requests, Function.identity());
+    }
+
+    @Override
+    public BulkCreateArticleResponse createAllFromLines(Iterator<String> lines) {
+        return createAll(lines, this::parse);
+    }
+
+    private CreateArticleRq parse(String line) {
+        try {
+            return objectMapper.readValue(line, CreateArticleRq.class);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalArgumentException("Invalid JSON: " + exception.getOriginalMessage(), exception);
+        }
+    }
+
+    private <T> BulkCreateArticleResponse createAll(Iterator<T> items, Function<T, CreateArticleRq> parser) {
+        List<BulkCreateArticleItemResponse> results = new ArrayList<>();
+        List<T> chunk = new ArrayList<>(ArticleConstants.BULK_CREATE_CHUNK_SIZE);
+        String unprocessed = null;
+        try {
+            while (results.size() + chunk.size() < ArticleConstants.BULK_CREATE_MAX_ITEMS && items.hasNext()) {
+                chunk.add(items.next());
+                if (chunk.size() == ArticleConstants.BULK_CREATE_CHUNK_SIZE) {
+                    createChunk(results.size(), chunk, parser, results);
+                    chunk.clear();
+                }
+            }
+            if (items.hasNext()) {
+                unprocessed = "Only the first " + ArticleConstants.BULK_CREATE_MAX_ITEMS + " articles of a bulk request are processed";
+            }
+        } catch (UncheckedIOException exception) {
+            unprocessed = "The rest of the request could not be read: " + exception.getCause().getMessage();
+        }
+        if (!chunk.isEmpty()) {
+            createChunk(results.size(), chunk, parser, results);
+        }
+        if (unprocessed != null) {
+            results.add(articleMapper.toResponse(results.size(), BulkItemStatus.REJECTED, null, unprocessed));
+        }
+        return articleMapper.toResponse(results);
+    }
+
+    private <T> void createChunk(int firstIndex, List<T> chunk, Function<T, CreateArticleRq> parser, List<BulkCreateArticleItemResponse> results) {
+        Article[] articles = new Article[chunk.size()];
+        String[] violations = new String[chunk.size()];
+        CompletableFuture.allOf(IntStream.range(0, chunk.size())
+                        .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                            try {
+                                CreateArticleRq request = parser.apply(chunk.get(i));
+                                violations[i] = violationsOf(request);
+                                if (violations[i] == null) {
+                                    articles[i] = articleMapper.toEntity(request, determineAgeRating(request.content()));
+                                }
+                            } catch (IllegalArgumentException exception) {
+                                violations[i] = exception.getMessage();
+                            }
+                        }, bulkCreateExecutor))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+
+        List<Article> valid = new ArrayList<>(chunk.size());
+        for (Article article : articles) {
+            if (article != null) {
+                valid.add(article);
+            }
+        }
+        String failure = null;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                valid.forEach(this::publishCreated);
+                articleRepository.saveAll(valid);
+            });
+        } catch (DataAccessException | TransactionException exception) {
+            failure = exception.getMostSpecificCause().getMessage();
+        }
+
+        for (int i = 0; i < chunk.size(); i++) {
+            int index = firstIndex + i;
+            if (articles[i] == null) {
+                results.add(articleMapper.toResponse(index, BulkItemStatus.REJECTED, null, violations[i]));
+            } else if (failure != null) {
+                results.add(articleMapper.toResponse(index, BulkItemStatus.FAILED, null, failure));
+            } else {
+                results.add(articleMapper.toResponse(index, BulkItemStatus.CREATED, articles[i].id(), null));
+            }
+        }
+    }
+
+    private String violationsOf(CreateArticleRq request) {
+        if (request == null) {
+            return "Article must not be null";
+        }
+        Set<ConstraintViolation<CreateArticleRq>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
     @Override
     public Page<ArticleResponse> getPage(Pageable pageable) {
         return articleRepository.findAll(pageable)
@@ -38,9 +214,58 @@ public class ArticleServiceImpl implements ArticleService {
     }
 
     @Override
+    public ArticleCursorPageResponse getCursorPage(String cursor, Integer size) {
+        int pageSize = size == null
+                ? ArticleConstants.DEFAULT_CURSOR_PAGE_SIZE
+                : Math.clamp(size, 1, ArticleConstants.MAX_CURSOR_PAGE_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+        List<Article> articles = cursor == null
+                ? articleRepository.findAllByOrderByIdAsc(limit)
+                : articleRepository.findAllByIdGreaterThanOrderByIdAsc(CursorUtils.decode(cursor), limit);
+        if (articles.size() <= pageSize) {
+            return articleMapper.toResponse(articles, null);
+        }
+        List<Article> page = articles.subList(0, pageSize);
+        return articleMapper.toResponse(page, CursorUtils.encode(page.get(pageSize - 1).id()));
+    }
+
+    @Override
+    @Transactional
+    public void export(Consumer<ArticleResponse> action) {
+        articleRepository.forEachOrderedById(article -> action.accept(articleMapper.toResponse(article)));
+    }
+
+    @Override
+    public String getPageETag(Page<ArticleResponse> page) {
+        return ETagUtils.fingerprint(
+                page.getPageable(),
+                page.getTotalElements(),
+                page.getContent().stream().map(article -> article.id() + ":" + article.version()).toList());
+    }
+
+    @Override
+    @Cacheable(cacheNames = ArticleConstants.ARTICLE_CACHE, key = "#id")
     public ArticleResponse getOne(UUID id) {
+        if (!articleIdFilterService.mightExist(id)) {
+            throw new ArticleNotFoundException(id);
+        }
         return articleRepository.findById(id)
                 .map(articleMapper::toResponse)
                 .orElseThrow(() -> new ArticleNotFoundException(id));
     }
+
+    @Override
+    public String getETag(ArticleResponse article) {
+        return String.valueOf(article.version());
+    }
+
+    @Override
+    public ArticleRatingResponse getRating(UUID id) {
+        if (!articleIdFilterService.mightExist(id)) {
+            throw new ArticleNotFoundException(id);
+        }
+        return articleRepository.findRatingById(id)
+                .map(articleMapper::toResponse)
+                .orElseThrow(() -> new ArticleNotFoundException(id));
+    }
 }
@@ -0,0 +1,34 @@
+package com.example.archunitrules.util;
+
+import com.example.archunitrules.exception.InvalidCursorException;
+import lombok.experimental.UtilityClass;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+@UtilityClass
+public class CursorUtils {
+    private static final int UUID_BYTES = 16;
+
+    public static String encode(UUID id) {
+        ByteBuffer buffer = ByteBuffer.allocate(UUID_BYTES)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static UUID decode(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidCursorException(cursor);
+        }
+        if (bytes.length != UUID_BYTES) {
+            throw new InvalidCursorException(cursor);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.archunitrules.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+@UtilityClass
+public class TimeOrderedUuidUtils {
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private static final AtomicLong LAST_TIMESTAMP_AND_COUNTER = new AtomicLong();
+
+    public static UUID generate() {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+        long timestampAndCounter = LAST_TIMESTAMP_AND_COUNTER.updateAndGet(last -> Math.max(last + 1, now));
+        long mostSignificantBits = (timestampAndCounter >>> COUNTER_BITS) << 16
+                | VERSION
+                | (timestampAndCounter & COUNTER_MASK);
+        long leastSignificantBits = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    public static boolean isTimeOrdered(UUID id) {
+        return id.variant() == 2 && id.version() == 7;
+    }
+
+    public static long timestamp(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+}
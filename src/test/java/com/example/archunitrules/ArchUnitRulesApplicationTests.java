@@ -1,599 +1,146 @@
 package com.example.archunitrules;
 
-import com.example.archunitrules.common.exception.BaseParametrizedException;
-import com.tngtech.archunit.base.DescribedPredicate;
-import com.tngtech.archunit.core.domain.*;
-import com.tngtech.archunit.core.importer.ClassFileImporter;
-import com.tngtech.archunit.core.importer.ImportOption;
-import com.tngtech.archunit.lang.ArchCondition;
-import com.tngtech.archunit.lang.ArchRule;
-import com.tngtech.archunit.lang.ConditionEvents;
-import com.tngtech.archunit.lang.SimpleConditionEvent;
-import com.tngtech.archunit.library.Architectures.LayeredArchitecture;
-import io.swagger.v3.oas.annotations.Operation;
-import io.swagger.v3.oas.annotations.responses.ApiResponse;
-import jakarta.persistence.Entity;
-import jakarta.persistence.Table;
-import jakarta.validation.Valid;
-import lombok.Generated;
+import com.example.archunitrules.architecture.AnalyzeImportedClasses;
+import com.example.archunitrules.architecture.ArchRuleChecker;
 import org.junit.jupiter.api.Test;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Component;
-import org.springframework.stereotype.Controller;
-import org.springframework.stereotype.Service;
-import org.springframework.web.bind.annotation.ControllerAdvice;
-import org.springframework.web.bind.annotation.ExceptionHandler;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.List;
-import java.util.Optional;
-import java.util.stream.Stream;
-
-import static com.tngtech.archunit.base.DescribedPredicate.anyElementThat;
-import static com.tngtech.archunit.core.domain.JavaClass.Predicates.resideInAPackage;
-import static com.tngtech.archunit.core.domain.properties.CanBeAnnotated.Predicates.annotatedWith;
-import static com.tngtech.archunit.core.domain.properties.CanBeAnnotated.Predicates.metaAnnotatedWith;
-import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.*;
-import static com.tngtech.archunit.library.Architectures.layeredArchitecture;
-import static com.tngtech.archunit.library.dependencies.SlicesRuleDefinition.slices;
 
+@AnalyzeImportedClasses
 class ArchUnitRulesApplicationTests {
-    JavaClasses classes = new ClassFileImporter()
-            .withImportOption(ImportOption.Predefined.DO_NOT_INCLUDE_TESTS)
-            .importPackages("com.example.archunitrules");
+    private final ArchRuleChecker checker;
 
-    @Test
-    void properlyNamedServiceInterfacesHasProperlyNamedServiceImplementations() {
-        ArchRule interfacesRule = classes()
-                .that().resideInAPackage("..service")
-                .should().haveNameMatching(".+Service$")
-                .andShould().beInterfaces();
-        ArchRule implementations = classes()
-                .that().resideInAPackage("..service.impl")
-                .should().haveNameMatching(".+ServiceImpl$")
-                .andShould().notBeInterfaces()
-                .andShould(implementCorrespondingServiceInterface());
-        interfacesRule.allowEmptyShould(true).check(classes);
-        implementations.allowEmptyShould(true).check(classes);
+    ArchUnitRulesApplicationTests(ArchRuleChecker checker) {
+        this.checker = checker;
     }
 
-    private ArchCondition<JavaClass> implementCorrespondingServiceInterface() {
-        return new ArchCondition<>("implements corresponding service interface") {
-            @Override
-            public void check(JavaClass item, ConditionEvents events) {
-                String serviceImplementationClassName = item.getSimpleName();
-                String baseName = serviceImplementationClassName.substring(0, serviceImplementationClassName.lastIndexOf("ServiceImpl"));
-                item.getRawInterfaces().stream()
-                        .map(JavaClass::getSimpleName)
-                        .filter(interfaceName -> interfaceName.startsWith(baseName))
-                        .filter(interfaceName -> interfaceName.endsWith("Service"))
-                        .findAny()
-                        .ifPresentOrElse(
-                                interfaceName -> {
-                                },
-                                () -> events.add(SimpleConditionEvent.violated(item, "No corresponding service interface found for " + serviceImplementationClassName))
-                        );
-            }
-        };
+    @Test
+    void properlyNamedServiceInterfacesHasProperlyNamedServiceImplementations() {
+        checker.check("serviceInterfacesAreProperlyNamed");
+        checker.check("serviceImplementationsAreProperlyNamed");
     }
 
     @Test
     void layersAreAccessedFromTopToBottomOnly() {
-        LayeredArchitecture architecture = layeredArchitecture().consideringOnlyDependenciesInLayers()
-                .layer("Controller").definedBy("..controller")
-                .layer("Service").definedBy("..service")
-                .layer("Repository").definedBy("..repository")
-                .whereLayer("Controller").mayNotBeAccessedByAnyLayer()
-                .whereLayer("Service").mayOnlyBeAccessedByLayers("Controller")
-                .whereLayer("Repository").mayOnlyBeAccessedByLayers("Service");
-        architecture.allowEmptyShould(true).check(classes);
+        checker.check("layersAreAccessedFromTopToBottomOnly");
     }
 
     @Test
     void requestsWithValidationAnnotationsAreProperlyValidated() {
-        ArchRule validatedRequestsRole = classes()
-                .that().resideInAPackage("..controller.request")
-                .and().containAnyFieldsThat(isAnnotatedWithAnyValidationAnnotation())
-                .should(beValidatedRequestBodyInCorrespondingController());
-        validatedRequestsRole.allowEmptyShould(true).check(classes);
-    }
-
-    private DescribedPredicate<JavaField> isAnnotatedWithAnyValidationAnnotation() {
-        return new DescribedPredicate<>("is annotated with any validation annotation") {
-            @Override
-            public boolean test(JavaField javaField) {
-                return javaField.isAnnotatedWith(annotationFromAnyPackage(
-                        "javax.validation.constraints",
-                        "jakarta.validation.constraints",
-                        "org.hibernate.validator.constraints"
-                ));
-            }
-        };
-    }
-
-    private static DescribedPredicate<JavaAnnotation<?>> annotationFromAnyPackage(String... annotationPackages) {
-        return new DescribedPredicate<>("annotation package equals any of passed packages") {
-            @Override
-            public boolean test(JavaAnnotation<?> javaAnnotation) {
-                return Arrays.stream(annotationPackages)
-                        .anyMatch(annotationPackage -> javaAnnotation.getRawType()
-                                .getPackage().getName().equals(annotationPackage));
-            }
-        };
-    }
-
-    private ArchCondition<JavaClass> beValidatedRequestBodyInCorrespondingController() {
-        return new ArchCondition<>("is validated request body") {
-            @Override
-            public void check(JavaClass item, ConditionEvents events) {
-                String packageName = item.getPackage().getName();
-                String correspondingControllerPackageName = packageName.substring(0, packageName.lastIndexOf('.'));
-                boolean allRequestBodyParametersAreValidated = classes.stream()
-                        .filter(javaClass -> javaClass.getPackage().getName().equals(correspondingControllerPackageName))
-                        .filter(javaClass -> javaClass.isMetaAnnotatedWith(Controller.class))
-                        .map(JavaClass::getMethods)
-                        .flatMap(Collection::stream)
-                        .map(JavaCodeUnit::getParameters)
-                        .flatMap(Collection::stream)
-                        .filter(javaParameter -> javaParameter.getRawType().equals(item))
-                        .allMatch(javaParameter -> javaParameter.isAnnotatedWith(RequestBody.class) &&
-                                javaParameter.isAnnotatedWith(Valid.class));
-                if (!allRequestBodyParametersAreValidated) {
-                    events.add(SimpleConditionEvent.violated(item, "Not all request body parameters with validation annotations are validated in controller"));
-                }
-            }
-        };
+        checker.check("requestsWithValidationAnnotationsAreProperlyValidated");
     }
 
     @Test
     void allExceptionsHaveHandlers() {
-        ArchRule exceptionHandlersRule = classes()
-                .that().resideInAPackage("..exception")
-                .and(areChildrenOf(BaseParametrizedException.class))
-                .should(haveCorrespondingExceptionHandlerInPackage("..handler"));
-        exceptionHandlersRule.allowEmptyShould(true).check(classes);
-    }
-
-    private DescribedPredicate<JavaClass> areChildrenOf(Class<?> superClass) {
-        return new DescribedPredicate<>("are children of " + superClass.getSimpleName()) {
-            @Override
-            public boolean test(JavaClass item) {
-                return item.getRawSuperclass()
-                        .filter(javaClass -> javaClass.reflect().equals(superClass))
-                        .isPresent();
-            }
-        };
-    }
-
-    private ArchCondition<JavaClass> haveCorrespondingExceptionHandlerInPackage(String packagePath) {
-        return new ArchCondition<>("has corresponding exception handler in " + packagePath) {
-            @Override
-            public void check(JavaClass item, ConditionEvents events) {
-                classes.stream()
-                        .filter(javaClass -> PackageMatchers.of(packagePath).test(javaClass.getPackageName()))
-                        .filter(javaClass -> javaClass.isMetaAnnotatedWith(ControllerAdvice.class))
-                        .map(JavaClass::getAllMethods)
-                        .flatMap(Collection::stream)
-                        .filter(javaMethod -> javaMethod.isAnnotatedWith(ExceptionHandler.class))
-                        .filter(javaMethod -> javaMethod.isAnnotatedWith(annotationWithPropertyContaining("value", item)))
-                        .findAny()
-                        .ifPresentOrElse(
-                                javaMethod -> {
-                                },
-                                () -> events.add(SimpleConditionEvent.violated(item, "exception has no corresponding exception handler in " + packagePath))
-                        );
-            }
-        };
-    }
-
-    private DescribedPredicate<JavaAnnotation<?>> annotationWithPropertyContaining(String property, Object value) {
-        return new DescribedPredicate<>("is annotated with annotation with value containing " + value.toString()) {
-            @Override
-            public boolean test(JavaAnnotation<?> javaAnnotation) {
-                Object annotationPropertyValue = javaAnnotation.getProperties().get(property);
-                if (annotationPropertyValue.getClass().isArray()) {
-                    return Arrays.asList((Object[]) annotationPropertyValue).contains(value);
-                } else {
-                    return annotationPropertyValue.equals(value);
-                }
-            }
-        };
+        checker.check("allExceptionsHaveHandlers");
     }
 
     @Test
     void controllerNamesHaveProperPostfix() {
-        ArchRule controllerNamesRule = classes()
-                .that().resideInAPackage("..controller")
-                .should().haveNameMatching(".+Controller$");
-        controllerNamesRule.allowEmptyShould(true).check(classes);
+        checker.check("controllerNamesHaveProperPostfix");
     }
 
     @Test
     void repositoryNamesHaveProperPostfix() {
-        ArchRule repositoryNamesRule = classes()
-                .that().resideInAPackage("..repository")
-                .should().haveNameMatching(".+Repository$");
-        repositoryNamesRule.allowEmptyShould(true).check(classes);
+        checker.check("repositoryNamesHaveProperPostfix");
     }
 
     @Test
     void customRepositoryNamesHaveProperPostfix() {
-        ArchRule customRepositoryNamesRule = classes()
-                .that().resideInAPackage("..repository.custom")
-                .should().haveNameMatching(".+RepositoryCustom$");
-        customRepositoryNamesRule.allowEmptyShould(true).check(classes);
+        checker.check("customRepositoryNamesHaveProperPostfix");
     }
 
     @Test
     void enumerationPackageHasEnumsOnly() {
-        ArchRule enumsRule = classes()
-                .that().resideInAPackage("..enumeration")
-                .should().beEnums();
-        enumsRule.allowEmptyShould(true).check(classes);
+        checker.check("enumerationPackageHasEnumsOnly");
     }
 
     @Test
     void requestDtosHasProperNamesAndAreRecords() {
-        ArchRule requestsRule = classes()
-                .that().resideInAPackage("..controller.request")
-                .should().beRecords()
-                .andShould().haveNameMatching(".+Rq$");
-        requestsRule.allowEmptyShould(true).check(classes);
+        checker.check("requestDtosHasProperNamesAndAreRecords");
     }
 
     @Test
     void responseDtosHasProperNamesAndAreRecords() {
-        ArchRule responseRule = classes()
-                .that().resideInAPackage("..controller.response")
-                .and().areNotAnnotatedWith(Generated.class)
-                .should().beRecords()
-                .andShould().haveNameMatching(".+Response$");
-        responseRule.allowEmptyShould(true).check(classes);
+        checker.check("responseDtosHasProperNamesAndAreRecords");
     }
 
     @Test
     void controllersHavePublicStaticFinalPathField() {
-        ArchRule controllerPathsRule = classes()
-                .that().resideInAPackage("..controller")
-                .should(haveFieldWithName("PATH"));
-        ArchRule filedNamesRule = fields()
-                .that().areDeclaredInClassesThat().resideInAPackage("..controller")
-                .and().haveName("PATH")
-                .should().bePublic()
-                .andShould().beStatic()
-                .andShould().beFinal()
-                .andShould().haveRawType(String.class);
-        controllerPathsRule.allowEmptyShould(true).check(classes);
-        filedNamesRule.allowEmptyShould(true).check(classes);
-    }
-
-    private ArchCondition<JavaClass> haveFieldWithName(String fieldName) {
-        return new ArchCondition<>("has field with name " + fieldName) {
-            @Override
-            public void check(JavaClass item, ConditionEvents events) {
-                item.getFields().stream()
-                        .filter(javaField -> javaField.getName().equals(fieldName))
-                        .findAny()
-                        .ifPresentOrElse(
-                                javaField -> {
-                                },
-                                () -> events.add(SimpleConditionEvent.violated(item, "no field with name " + fieldName))
-                        );
-            }
-        };
+        checker.check("controllersHavePathField");
+        checker.check("controllerPathFieldsArePublicStaticFinalStrings");
     }
 
     @Test
     void allServicesMustBeAnnotatedWithServiceAnnotations() {
-        ArchRule serviceAnnotationsRule = classes()
-                .that().resideInAPackage("..service.impl")
-                .should().beAnnotatedWith(Service.class);
-        serviceAnnotationsRule.allowEmptyShould(true).check(classes);
+        checker.check("allServicesMustBeAnnotatedWithServiceAnnotations");
     }
 
     @Test
     void allControllersMustBeMetaAnnotatedWithControllerAnnotations() {
-        ArchRule controllerAnnotationsRule = classes()
-                .that().resideInAPackage("..controller")
-                .should().beMetaAnnotatedWith(Controller.class);
-        controllerAnnotationsRule.allowEmptyShould(true).check(classes);
+        checker.check("allControllersMustBeMetaAnnotatedWithControllerAnnotations");
     }
 
     @Test
     void allEntitiesMustBeAnnotatedWithEntityAnnotations() {
-        ArchRule entityAnnotationsRule = classes()
-                .that().resideInAPackage("..entity")
-                .and().areNotAnnotatedWith(Generated.class)
-                .should().beAnnotatedWith(Entity.class)
-                .andShould(beAnnotatedWithNamedTableAnnotations());
-        entityAnnotationsRule.allowEmptyShould(true).check(classes);
-    }
-
-    private ArchCondition<JavaClass> beAnnotatedWithNamedTableAnnotations() {
-        return new ArchCondition<>("is annotated with named @Table annotations") {
-            @Override
-            public void check(JavaClass item, ConditionEvents events) {
-                Stream.of(item)
-                        .map(JavaClass::getAnnotations)
-                        .flatMap(Collection::stream)
-                        .filter(javaAnnotation -> javaAnnotation.getRawType().reflect().equals(Table.class))
-                        .map(JavaAnnotation::getProperties)
-                        .map(annotationProperties -> annotationProperties.get("name"))
-                        .findAny()
-                        .map(String.class::cast)
-                        .filter(tableName -> !tableName.isBlank())
-                        .ifPresentOrElse(
-                                tableName -> {
-                                },
-                                () -> events.add(SimpleConditionEvent.violated(item, "entity has no named @Table annotation"))
-                        );
-
-            }
-        };
+        checker.check("allEntitiesMustBeAnnotatedWithEntityAnnotations");
     }
 
     @Test
     void mapperMethodsMustHaveProperNamesAndArgumentNames() {
-        ArchRule toEntityMethodNamesRule = methods()
-                .that().areDeclaredInClassesThat().resideInAPackage("..mapper")
-                .and().haveRawReturnType(annotatedWith(Entity.class))
-                .should().haveName("toEntity");
-        ArchRule fromRequestArgumentNamesRule = methods()
-                .that().areDeclaredInClassesThat().resideInAPackage("..mapper")
-                .and(haveParameterFromPackage("..controller.request"))
-                .should(haveParameterName("request"));
-        ArchRule toResponseMethodNamesRule = methods()
-                .that().areDeclaredInClassesThat().resideInAPackage("..mapper")
-                .and().haveRawReturnType(resideInAPackage("..controller.response"))
-                .should().haveName("toResponse");
-        toEntityMethodNamesRule.allowEmptyShould(true).check(classes);
-        fromRequestArgumentNamesRule.allowEmptyShould(true).check(classes);
-        toResponseMethodNamesRule.allowEmptyShould(true).check(classes);
-    }
-
-    private DescribedPredicate<JavaMethod> haveParameterFromPackage(String packagePath) {
-        return new DescribedPredicate<>("has parameters from " + packagePath) {
-            @Override
-            public boolean test(JavaMethod javaMethod) {
-                return PackageMatchers.of(packagePath).test(javaMethod.getOwner().getPackageName());
-            }
-        };
-    }
-
-    private ArchCondition<JavaMethod> haveParameterName(String parameterName) {
-        return new ArchCondition<>("has parameter with name " + parameterName) {
-            @Override
-            public void check(JavaMethod item, ConditionEvents events) {
-                Arrays.stream(item.reflect().getParameters())
-                        .filter(parameter -> parameter.getName().equals(parameterName))
-                        .findAny()
-                        .ifPresentOrElse(
-                                parameter -> {
-                                },
-                                () -> events.add(SimpleConditionEvent.violated(item, "no parameter with name " + parameterName))
-                        );
-            }
-        };
+        checker.check("mapperToEntityMethodsHaveProperNames");
+        checker.check("mapperRequestArgumentsHaveProperNames");
+        checker.check("mapperToResponseMethodsHaveProperNames");
     }
 
     @Test
     void utilityClassesHaveProperMethods() {
-        ArchRule staticMethodsRule = methods()
-                .that().areDeclaredInClassesThat().resideInAPackage("..util")
-                .should().beStatic();
-        ArchRule privateConstructorRule = classes()
-                .that().resideInAPackage("..util")
-                .should().haveOnlyPrivateConstructors();
-        staticMethodsRule.allowEmptyShould(true).check(classes);
-        privateConstructorRule.allowEmptyShould(true).check(classes);
+        checker.check("utilityMethodsAreStatic");
+        checker.check("utilityClassesHaveOnlyPrivateConstructors");
     }
 
     @Test
     void constantClassesHaveProperFields() {
-        ArchRule methodsRule = classes()
-                .that().resideInAPackage("..constant")
-                .should().haveOnlyPrivateConstructors()
-                .andShould(notContainAnyMethodsExceptConstructor());
-        ArchRule publicStaticFinalFieldsRule = fields()
-                .that().areDeclaredInClassesThat().resideInAPackage("..constant")
-                .should().bePublic()
-                .andShould().beStatic()
-                .andShould().beFinal()
-                .andShould().haveNameMatching("^(?!_)[A-Z_]+(?<!_)$");
-        methodsRule.allowEmptyShould(true).check(classes);
-        publicStaticFinalFieldsRule.allowEmptyShould(true).check(classes);
-    }
-
-    private ArchCondition<JavaClass> notContainAnyMethodsExceptConstructor() {
-        return new ArchCondition<>("does not contain any methods except constructor") {
-            @Override
-            public void check(JavaClass item, ConditionEvents events) {
-                long numberOfNonConstructorMethods = item.getMethods().stream()
-                        .filter(javaMethod -> !javaMethod.isConstructor())
-                        .count();
-                if (numberOfNonConstructorMethods > 0) {
-                    events.add(SimpleConditionEvent.violated(item, "there are non-constructor methods"));
-                }
-            }
-        };
+        checker.check("constantClassesHaveNoMethods");
+        checker.check("constantFieldsArePublicStaticFinal");
     }
 
     @Test
     void componentAnnotatedFieldsArePrivateAndFinal() {
-        ArchRule componentFieldsRule = fields()
-                .that().areDeclaredInClassesThat().areMetaAnnotatedWith(Component.class)
-                .and().haveRawType(metaAnnotatedWith(Component.class))
-                .should().bePrivate()
-                .andShould().beFinal();
-        componentFieldsRule.allowEmptyShould(true).check(classes);
+        checker.check("componentAnnotatedFieldsArePrivateAndFinal");
     }
 
     @Test
     void thereAreNoTopLevelLayerPackages() {
-        ArchRule noTopLevelLayerPackagesRule = noClasses().should().resideInAnyPackage(
-                "com.example.archunitrules.entity",
-                "com.example.archunitrules.repository",
-                "com.example.archunitrules.service",
-                "com.example.archunitrules.mapper",
-                "com.example.archunitrules.dto",
-                "com.example.archunitrules.controller",
-                "com.example.archunitrules.constant",
-                "com.example.archunitrules.enumeration",
-                "com.example.archunitrules.exception",
-                "com.example.archunitrules.mapper",
-                "com.example.archunitrules.handler"
-        );
-        noTopLevelLayerPackagesRule.allowEmptyShould(true).check(classes);
+        checker.check("thereAreNoTopLevelLayerPackages");
     }
 
     @Test
     void repositoriesProvidesOptionalsOrCollections() {
-        ArchRule repositoryMethodsReturnTypesRule = methods()
-                .that().areDeclaredInClassesThat().areAssignableTo(JpaRepository.class)
-                .should().haveRawReturnType(thatIsCollection())
-                .orShould().haveRawReturnType(Optional.class)
-                .orShould().haveRawReturnType(Page.class);
-        ArchRule pageableMethodArgumentsRule = methods()
-                .that().areDeclaredInClassesThat().areAssignableTo(JpaRepository.class)
-                .and().haveRawReturnType(Page.class)
-                .should(haveLastParameterOfType(Pageable.class));
-        repositoryMethodsReturnTypesRule.allowEmptyShould(true).check(classes);
-        pageableMethodArgumentsRule.allowEmptyShould(true).check(classes);
-    }
-
-    private DescribedPredicate<JavaClass> thatIsCollection() {
-        return new DescribedPredicate<>("is collection") {
-            @Override
-            public boolean test(JavaClass javaClass) {
-                return javaClass.isAssignableTo(Collection.class);
-            }
-        };
-    }
-
-    private ArchCondition<JavaMethod> haveLastParameterOfType(Class<?> expectedType) {
-        return new ArchCondition<>("last parameter of type " + expectedType.getName()) {
-            @Override
-            public void check(JavaMethod item, ConditionEvents events) {
-                List<JavaParameter> parameters = item.getParameters();
-                if (parameters.isEmpty()) {
-                    events.add(SimpleConditionEvent.violated(item, "there are no parameters"));
-                    return;
-                }
-                JavaParameter lastParameter = parameters.getLast();
-                if (!lastParameter.getRawType().isAssignableTo(expectedType)) {
-                    String message = String.format(
-                            "Method %s has last parameter of type %s, but expected %s",
-                            item.getFullName(),
-                            lastParameter.getType().getName(),
-                            expectedType.getName()
-                    );
-                    events.add(SimpleConditionEvent.violated(item, message));
-                }
-            }
-        };
+        checker.check("repositoryMethodsReturnOptionalsOrCollections");
+        checker.check("pageableRepositoryMethodsTakePageableLast");
     }
 
     @Test
     void noCircularDependencies() {
-        ArchRule noCircularDependenciesRule = slices()
-                .matching("com.example.archunitrules.(*)..")
-                .should().beFreeOfCycles()
-                .ignoreDependency(
-                        DescribedPredicate.alwaysTrue(),
-                        resideInAPackage("..request..")
-                )
-                .ignoreDependency(
-                        DescribedPredicate.alwaysTrue(),
-                        resideInAPackage("..response..")
-                )
-                .because("laskdfjlaskfd");
-        noCircularDependenciesRule.allowEmptyShould(true).check(classes);
+        checker.check("noCircularDependencies");
     }
 
     @Test
     void noEntitiesInControllers() {
-        ArchRule controllerMethodEntitiesRule = methods()
-                .that().areDeclaredInClassesThat().resideInAPackage("..controller..")
-                .should().notHaveRawReturnType(annotatedWith(Entity.class))
-                .andShould().notHaveRawReturnType(resideInAPackage("..entity"))
-                .andShould(notHave())
-                .andShould().notHaveRawParameterTypes(anyElementThat(annotatedWith(Entity.class)))
-                .andShould().notHaveRawParameterTypes(anyElementThat(resideInAPackage("..entity")))
-                .because("lasdkflaskf");
-        controllerMethodEntitiesRule.allowEmptyShould(true).check(classes);
-    }
-
-    private ArchCondition<? super JavaMethod> notHave() {
-        return new ArchCondition<JavaMethod>("not haven") {
-
-            @Override
-            public void check(JavaMethod item, ConditionEvents events) {
-                System.out.println(item.getTypeParameters());
-                System.out.println(item.getReturnType());
-            }
-        };
+        checker.check("noEntitiesInControllers");
     }
 
     @Test
     void fieldInjectionNotUsed() {
-        noFields()
-                .should().beAnnotatedWith(Autowired.class)
-                .because("blablabla")
-                .allowEmptyShould(true)
-                .check(classes);
+        checker.check("fieldInjectionNotUsed");
     }
 
     @Test
     void controllerMethodsAreAnnotatedWithOpenapiAnnotations() {
-        methods().that().areMetaAnnotatedWith(RequestMapping.class)
-                .should().beAnnotatedWith(Operation.class)
-                .andShould().beMetaAnnotatedWith(ApiResponse.class)
-                .because("blablabla")
-                .allowEmptyShould(true)
-                .check(classes);
+        checker.check("controllerMethodsAreAnnotatedWithOpenapiAnnotations");
     }
 
     @Test
     void entitiesHaveEqualsAndHashCode() {
-        classes().that().areAnnotatedWith(Entity.class)
-                .should(haveEqualsMethod())
-                .andShould(haveHashCodeMethod())
-                .because("https://jpa-buddy.com/blog/hopefully-the-final-article-about-equals-and-hashcode-for-jpa-entities-with-db-generated-ids/")
-                .allowEmptyShould(true)
-                .check(classes);
-    }
-
-    private ArchCondition<JavaClass> haveEqualsMethod() {
-        return new ArchCondition<>("equals method") {
-            @Override
-            public void check(JavaClass item, ConditionEvents events) {
-                item.tryGetMethod("equals", Object.class)
-                        .filter(javaMethod -> javaMethod.getReturnType().getName().equals("boolean"))
-                        .ifPresentOrElse(
-                                javaMethod -> {},
-                                () -> events.add(SimpleConditionEvent.violated(item, "no equals method"))
-                        );
-            }
-        };
-    }
-
-    private ArchCondition<? super JavaClass> haveHashCodeMethod() {
-        return new ArchCondition<>("hashCode method") {
-            @Override
-            public void check(JavaClass item, ConditionEvents events) {
-                item.tryGetMethod("hashCode")
-                        .filter(javaMethod -> javaMethod.getReturnType().getName().equals("int"))
-                        .ifPresentOrElse(
-                                javaMethod -> {},
-                                () -> events.add(SimpleConditionEvent.violated(item, "no hashCode method"))
-                        );
-            }
-        };
+        checker.check("entitiesHaveEqualsAndHashCode");
     }
 }
@@ -0,0 +1,14 @@
+package com.example.archunitrules.architecture;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(ImportedClassesExtension.class)
+public @interface AnalyzeImportedClasses {
+}
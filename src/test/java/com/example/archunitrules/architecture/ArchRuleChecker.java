@@ -0,0 +1,118 @@
+package com.example.archunitrules.architecture;
+
+import com.example.archunitrules.architecture.engine.RulePlan;
+import com.example.archunitrules.architecture.facts.ClassFactsCache;
+import com.example.archunitrules.architecture.incremental.ClassSelection;
+import com.example.archunitrules.architecture.incremental.IncrementalEvaluation;
+import com.example.archunitrules.architecture.profiling.RuleProfiler;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ImportOption;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class ArchRuleChecker {
+    private final Map<String, RegisteredRule> rules;
+    private final RulePlan plan;
+    private final IncrementalEvaluation incrementalEvaluation;
+    private final RuleProfiler profiler;
+
+    public ArchRuleChecker(List<RegisteredRule> rules, RulePlan plan, IncrementalEvaluation incrementalEvaluation, RuleProfiler profiler) {
+        this.rules = rules.stream().collect(Collectors.toMap(RegisteredRule::name, Function.identity()));
+        this.plan = plan;
+        this.incrementalEvaluation = incrementalEvaluation;
+        this.profiler = profiler;
+    }
+
+    public static ArchRuleChecker create(JavaClasses classes, List<RegisteredRule> rules) {
+        RulePlan plan = RulePlan.create(classes, rules);
+        if (!Boolean.getBoolean("archunit.incremental")) {
+            return new ArchRuleChecker(rules, plan, null, RuleProfiler.create());
+        }
+        IncrementalEvaluation incrementalEvaluation = IncrementalEvaluation.load(
+                ImportedClasses.CACHE_DIRECTORY.resolve("rule-results.properties"),
+                ImportedClasses.facts(),
+                rulesFingerprint()
+        );
+        return new ArchRuleChecker(rules, plan, incrementalEvaluation, RuleProfiler.create());
+    }
+
+    public void check(String ruleName) {
+        ArchRule.Assertions.assertNoViolation(evaluate(ruleName));
+    }
+
+    public EvaluationResult evaluate(String ruleName) {
+        RegisteredRule rule = rules.get(ruleName);
+        if (rule == null) {
+            throw new IllegalArgumentException("Unknown architecture rule " + ruleName);
+        }
+        JavaClasses classes = plan.classesFor(rule);
+        if (incrementalEvaluation == null) {
+            return evaluate(rule.rule(), rule.scope(), classes);
+        }
+        ClassSelection selection = incrementalEvaluation.select(rule.name(), rule.scope());
+        EvaluationResult result = selection.allClasses()
+                ? evaluate(rule.rule(), rule.scope(), classes)
+                : evaluate(rule.rule(), rule.scope(), classes.that(DescribedPredicate.describe(
+                        "affected by changes since the last green run",
+                        (JavaClass javaClass) -> selection.classNames().contains(javaClass.getName())
+                )));
+        incrementalEvaluation.record(rule.name(), !result.hasViolation());
+        return result;
+    }
+
+    private EvaluationResult evaluate(ArchRule rule, RuleScope scope, JavaClasses selectedClasses) {
+        return profiler == null ? rule.evaluate(selectedClasses) : profiler.evaluate(rule, scope, selectedClasses);
+    }
+
+    public void saveResults() {
+        if (incrementalEvaluation != null) {
+            incrementalEvaluation.save();
+        }
+        if (profiler != null) {
+            profiler.writeReport(ImportedClasses.importPhases());
+        }
+    }
+
+    private static String rulesFingerprint() {
+        ImportOption onlyTests = location -> !ImportOption.Predefined.DO_NOT_INCLUDE_TESTS.includes(location);
+        Path tooling = Path.of(ClassFileLocations.codeSource(ArchitectureRules.class));
+        Stream<Path> toolingFiles = Files.isDirectory(tooling) ? classFiles(tooling) : Stream.of(tooling);
+        String classHashes = Stream.concat(
+                        ClassFileLocations.packageDirectories(ImportedClasses.ROOT_PACKAGE, onlyTests).stream().flatMap(ArchRuleChecker::classFiles),
+                        toolingFiles
+                )
+                .sorted()
+                .map(ArchRuleChecker::readAllBytes)
+                .map(ClassFactsCache::hash)
+                .collect(Collectors.joining());
+        return ClassFactsCache.hash(classHashes.getBytes());
+    }
+
+    private static Stream<Path> classFiles(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(path -> path.getFileName().toString().endsWith(".class")).toList().stream();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list class files in " + directory, e);
+        }
+    }
+
+    private static byte[] readAllBytes(Path classFile) {
+        try {
+            return Files.readAllBytes(classFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read class file " + classFile, e);
+        }
+    }
+}
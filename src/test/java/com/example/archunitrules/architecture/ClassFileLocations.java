@@ -0,0 +1,44 @@
+package com.example.archunitrules.architecture;
+
+import com.tngtech.archunit.core.importer.ImportOption;
+import com.tngtech.archunit.core.importer.Location;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+public final class ClassFileLocations {
+    private ClassFileLocations() {
+    }
+
+    public static List<Path> packageDirectories(String packageName, ImportOption importOption) {
+        try {
+            return Collections.list(Thread.currentThread().getContextClassLoader().getResources(packageName.replace('.', '/')))
+                    .stream()
+                    .filter(url -> url.getProtocol().equals("file"))
+                    .map(ClassFileLocations::toUri)
+                    .filter(uri -> importOption.includes(Location.of(uri)))
+                    .map(Path::of)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not locate package " + packageName, e);
+        }
+    }
+
+    public static URI codeSource(Class<?> type) {
+        return toUri(type.getProtectionDomain().getCodeSource().getLocation());
+    }
+
+    private static URI toUri(URL url) {
+        try {
+            return url.toURI();
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Malformed class path location " + url, e);
+        }
+    }
+}
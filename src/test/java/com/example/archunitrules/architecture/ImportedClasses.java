@@ -0,0 +1,82 @@
+package com.example.archunitrules.architecture;
+
+import com.example.archunitrules.architecture.facts.ClassFactsCache;
+import com.example.archunitrules.architecture.facts.ClassFactsSnapshot;
+import com.example.archunitrules.architecture.index.ClassIndex;
+import com.example.archunitrules.architecture.profiling.ImportPhase;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.core.importer.ImportOption;
+import com.tngtech.archunit.core.importer.Location;
+import com.tngtech.archunit.core.importer.Locations;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+public final class ImportedClasses {
+    public static final String ROOT_PACKAGE = "com.example.archunitrules";
+    public static final Path CACHE_DIRECTORY = Path.of(System.getProperty("archunit.cache.dir", "build/archunit-cache"));
+    public static final String ARCHITECTURE_TOOLING = ClassFileLocations.codeSource(ArchitectureRules.class).getRawPath();
+    public static final ImportOption APPLICATION_CLASSES = location -> ImportOption.Predefined.DO_NOT_INCLUDE_TESTS.includes(location)
+            && !location.contains(ARCHITECTURE_TOOLING);
+
+    private static final Queue<ImportPhase> IMPORT_PHASES = new ConcurrentLinkedQueue<>();
+
+    private ImportedClasses() {
+    }
+
+    public static JavaClasses get() {
+        return Holder.CLASSES;
+    }
+
+    public static Duration importDuration() {
+        return Holder.IMPORT_DURATION;
+    }
+
+    public static List<ImportPhase> importPhases() {
+        return List.copyOf(IMPORT_PHASES);
+    }
+
+    private static <T> T timed(String phase, Supplier<T> supplier) {
+        long start = System.nanoTime();
+        T result = supplier.get();
+        IMPORT_PHASES.add(new ImportPhase(phase, System.nanoTime() - start));
+        return result;
+    }
+
+    public static ClassIndex index() {
+        return IndexHolder.INDEX;
+    }
+
+    public static ClassFactsSnapshot facts() {
+        return FactsHolder.FACTS;
+    }
+
+    private static final class Holder {
+        private static final JavaClasses CLASSES;
+        private static final Duration IMPORT_DURATION;
+
+        static {
+            long start = System.nanoTime();
+            Set<Location> locations = timed("locate class files", () -> Locations.ofPackage(ROOT_PACKAGE));
+            CLASSES = timed("import classes", () -> new ClassFileImporter()
+                    .withImportOption(APPLICATION_CLASSES)
+                    .importLocations(locations));
+            IMPORT_DURATION = Duration.ofNanos(System.nanoTime() - start);
+        }
+    }
+
+    private static final class IndexHolder {
+        private static final ClassIndex INDEX = timed("build class index", () -> new ClassIndex(Holder.CLASSES));
+    }
+
+    private static final class FactsHolder {
+        private static final ClassFactsSnapshot FACTS = timed("load class facts", () -> new ClassFactsCache(CACHE_DIRECTORY.resolve("class-facts.bin"))
+                .load(ClassFileLocations.packageDirectories(ROOT_PACKAGE, APPLICATION_CLASSES)));
+    }
+}
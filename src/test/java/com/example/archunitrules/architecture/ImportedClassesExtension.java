@@ -0,0 +1,92 @@
+package com.example.archunitrules.architecture;
+
+import com.example.archunitrules.architecture.index.ClassIndex;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ImportedClassesExtension implements ParameterResolver, BeforeTestExecutionCallback, AfterTestExecutionCallback {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImportedClassesExtension.class);
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(ImportedClassesExtension.class);
+    private static final String START_NANOS = "startNanos";
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        Class<?> type = parameterContext.getParameter().getType();
+        return type == JavaClasses.class
+                || type == ClassIndex.class
+                || type == ArchitectureRules.class
+                || type == ArchRuleChecker.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        if (parameterContext.getParameter().getType() == ArchRuleChecker.class) {
+            return extensionContext.getRoot().getStore(NAMESPACE)
+                    .getOrComputeIfAbsent(SharedChecker.class, key -> new SharedChecker(ArchRuleChecker.create(
+                            ImportedClasses.get(),
+                            new ArchitectureRules(ImportedClasses.index()).all()
+                    )), SharedChecker.class)
+                    .checker();
+        }
+        if (parameterContext.getParameter().getType() == ArchitectureRules.class) {
+            return new ArchitectureRules(ImportedClasses.index());
+        }
+        if (parameterContext.getParameter().getType() == ClassIndex.class) {
+            return ImportedClasses.index();
+        }
+        return ImportedClasses.get();
+    }
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        long start = context.getStore(NAMESPACE).remove(START_NANOS, long.class);
+        evaluationTimings(context).record(System.nanoTime() - start);
+    }
+
+    private static EvaluationTimings evaluationTimings(ExtensionContext context) {
+        return context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(EvaluationTimings.class, key -> new EvaluationTimings(), EvaluationTimings.class);
+    }
+
+    private record SharedChecker(ArchRuleChecker checker) implements ExtensionContext.Store.CloseableResource {
+        @Override
+        public void close() {
+            checker.saveResults();
+        }
+    }
+
+    private static class EvaluationTimings implements ExtensionContext.Store.CloseableResource {
+        private final LongAdder evaluationNanos = new LongAdder();
+        private final LongAdder evaluatedTests = new LongAdder();
+
+        void record(long nanos) {
+            evaluationNanos.add(nanos);
+            evaluatedTests.increment();
+        }
+
+        @Override
+        public void close() {
+            LOGGER.info(
+                    "ArchUnit import: {} ms ({} classes), rule evaluation: {} ms in {} tests",
+                    ImportedClasses.importDuration().toMillis(),
+                    ImportedClasses.get().size(),
+                    TimeUnit.NANOSECONDS.toMillis(evaluationNanos.sum()),
+                    evaluatedTests.sum()
+            );
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.archunitrules.architecture.cli;
+
+import com.example.archunitrules.architecture.synthetic.GeneratedCodebase;
+import com.example.archunitrules.architecture.synthetic.SyntheticCodebaseGenerator;
+import com.example.archunitrules.architecture.synthetic.SyntheticViolation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArchitectureCheckTests {
+    private static final int FEATURE_SLICES = 20;
+
+    @Test
+    void checksEveryCodebaseAndWritesSarifReport(@TempDir Path directory) throws IOException {
+        GeneratedCodebase clean = new SyntheticCodebaseGenerator(directory.resolve("clean")).generate(FEATURE_SLICES);
+        GeneratedCodebase violating = new SyntheticCodebaseGenerator(
+                directory.resolve("violating"), 0.5, Set.of(SyntheticViolation.MISSING_PATH_FIELD), 42L
+        ).generate(FEATURE_SLICES);
+        Path output = directory.resolve("report.sarif");
+        CheckOptions options = CheckOptions.parse(new String[]{
+                "--root-package", SyntheticCodebaseGenerator.ROOT_PACKAGE,
+                "--format", "sarif",
+                "--output", output.toString(),
+                "--chunk-size", "50",
+                clean.directory().toString(),
+                violating.directory().toString()
+        });
+
+        List<CodebaseReport> reports;
+        try (ArchitectureCheck check = new ArchitectureCheck(options)) {
+            reports = check.checkAll();
+        }
+        new ReportWriter().write(options.format(), options.output(), reports);
+
+        assertThat(reports).extracting(CodebaseReport::classes).containsExactly(clean.classes(), violating.classes());
+        assertThat(reports.getFirst().violationCount()).isZero();
+        assertThat(reports.getLast().violationCount()).isEqualTo(violating.violations().get(SyntheticViolation.MISSING_PATH_FIELD));
+        assertThat(reports.getLast().rules())
+                .filteredOn(rule -> rule.violationCount() > 0)
+                .extracting(RuleReport::name)
+                .containsExactly(SyntheticViolation.MISSING_PATH_FIELD.ruleName());
+        RuleViolation violation = reports.getLast().rules().stream()
+                .flatMap(rule -> rule.violations().stream())
+                .findFirst()
+                .orElseThrow();
+        assertThat(violation.className()).startsWith(SyntheticCodebaseGenerator.ROOT_PACKAGE).endsWith("Controller");
+        assertThat(Files.readString(output))
+                .contains("\"version\" : \"2.1.0\"")
+                .contains("\"ruleId\" : \"" + SyntheticViolation.MISSING_PATH_FIELD.ruleName() + "\"")
+                .contains("\"fullyQualifiedName\" : \"" + violation.className() + "\"");
+    }
+
+    @Test
+    void importsOnlyTheClassesTheSelectedRulesNeed(@TempDir Path directory) {
+        GeneratedCodebase violating = new SyntheticCodebaseGenerator(
+                directory, 0.5, Set.of(SyntheticViolation.MISSING_PATH_FIELD, SyntheticViolation.UNHANDLED_EXCEPTION), 42L
+        ).generate(FEATURE_SLICES);
+        String rules = SyntheticViolation.MISSING_PATH_FIELD.ruleName() + "," + SyntheticViolation.UNHANDLED_EXCEPTION.ruleName();
+
+        CodebaseReport selective = checkSingle("--rules", rules, violating.directory().toString());
+        CodebaseReport full = checkSingle("--rules", rules, "--full-import", violating.directory().toString());
+
+        assertThat(selective.classes()).isEqualTo(violating.classes());
+        assertThat(selective.importedClasses()).isLessThan(full.importedClasses());
+        assertThat(selective.rules()).isEqualTo(full.rules());
+        assertThat(selective.violationCount()).isPositive();
+    }
+
+    @Test
+    void checksClassesPackagedInASpringBootJar(@TempDir Path directory) throws IOException {
+        GeneratedCodebase violating = new SyntheticCodebaseGenerator(
+                directory.resolve("classes"), 0.5, Set.of(SyntheticViolation.MISSING_PATH_FIELD), 42L
+        ).generate(FEATURE_SLICES);
+        Path jar = bootJar(violating.directory(), directory.resolve("application.jar"));
+        String rules = SyntheticViolation.MISSING_PATH_FIELD.ruleName();
+
+        CodebaseReport fromJar = checkSingle("--rules", rules, jar.toString());
+        CodebaseReport fromDirectory = checkSingle("--rules", rules, violating.directory().toString());
+
+        assertThat(fromJar.classes()).isEqualTo(violating.classes());
+        assertThat(fromJar.importedClasses()).isEqualTo(fromDirectory.importedClasses());
+        assertThat(fromJar.rules()).isEqualTo(fromDirectory.rules());
+        assertThat(fromJar.violationCount()).isEqualTo(violating.violations().get(SyntheticViolation.MISSING_PATH_FIELD));
+    }
+
+    @Test
+    void rejectsUnknownOptions() {
+        assertThatThrownBy(() -> CheckOptions.parse(new String[]{"--unknown", "build"}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown option --unknown");
+    }
+
+    @Test
+    void rejectsUnknownRules() {
+        assertThatThrownBy(() -> CheckOptions.parse(new String[]{"--rules", "controllersHavePathField,noSuchRule", "build"}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown rules noSuchRule");
+    }
+
+    private static Path bootJar(Path classDirectory, Path jar) throws IOException {
+        try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar));
+             Stream<Path> classFiles = Files.walk(classDirectory)) {
+            for (Path classFile : classFiles.filter(Files::isRegularFile).toList()) {
+                output.putNextEntry(new JarEntry("BOOT-INF/classes/" + classDirectory.relativize(classFile).toString().replace('\\', '/')));
+                output.write(Files.readAllBytes(classFile));
+                output.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private static CodebaseReport checkSingle(String... args) {
+        String[] options = new String[args.length + 2];
+        options[0] = "--root-package";
+        options[1] = SyntheticCodebaseGenerator.ROOT_PACKAGE;
+        System.arraycopy(args, 0, options, 2, args.length);
+        try (ArchitectureCheck check = new ArchitectureCheck(CheckOptions.parse(options))) {
+            return check.checkAll().getFirst();
+        }
+    }
+}
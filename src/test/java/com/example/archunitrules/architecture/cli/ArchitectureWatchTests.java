@@ -0,0 +1,53 @@
+package com.example.archunitrules.architecture.cli;
+
+import com.example.archunitrules.architecture.synthetic.GeneratedCodebase;
+import com.example.archunitrules.architecture.synthetic.SyntheticCodebaseGenerator;
+import com.example.archunitrules.architecture.synthetic.SyntheticViolation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArchitectureWatchTests {
+    private static final int FEATURE_SLICES = 20;
+    private static final String CONTROLLER_CLASS_FILE = "com/example/synthetic/feature0/controller/Feature0Controller.class";
+
+    @Test
+    void rechecksOnlyTheRulesAffectedByAChangedClassFile(@TempDir Path directory) throws IOException {
+        GeneratedCodebase watched = new SyntheticCodebaseGenerator(directory.resolve("watched")).generate(FEATURE_SLICES);
+        GeneratedCodebase violating = new SyntheticCodebaseGenerator(
+                directory.resolve("violating"), 1.0, Set.of(SyntheticViolation.MISSING_PATH_FIELD), 42L
+        ).generate(FEATURE_SLICES);
+        Path controller = watched.directory().resolve(CONTROLLER_CLASS_FILE);
+        byte[] cleanController = Files.readAllBytes(controller);
+        CheckOptions options = CheckOptions.parse(new String[]{
+                "--root-package", SyntheticCodebaseGenerator.ROOT_PACKAGE,
+                "--watch",
+                watched.directory().toString()
+        });
+
+        try (ArchitectureWatch watch = new ArchitectureWatch(options)) {
+            assertThat(watch.start().violations()).isZero();
+
+            Files.copy(violating.directory().resolve(CONTROLLER_CLASS_FILE), controller, StandardCopyOption.REPLACE_EXISTING);
+            WatchUpdate violatingUpdate = watch.apply(Set.of(controller));
+
+            assertThat(violatingUpdate.changedClasses()).containsExactly("com.example.synthetic.feature0.controller.Feature0Controller");
+            assertThat(violatingUpdate.evaluatedRules())
+                    .contains(SyntheticViolation.MISSING_PATH_FIELD.ruleName())
+                    .doesNotContain("entitiesHaveEqualsAndHashCode", "utilityMethodsAreStatic");
+            assertThat(violatingUpdate.importedClasses()).isLessThan(watched.classes());
+            assertThat(violatingUpdate.violations()).isEqualTo(1);
+            assertThat(watch.violations().get(SyntheticViolation.MISSING_PATH_FIELD.ruleName())).hasSize(1);
+
+            Files.write(controller, cleanController);
+            assertThat(watch.apply(Set.of(controller)).violations()).isZero();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.archunitrules.architecture.compact;
+
+import com.example.archunitrules.architecture.AnalyzeImportedClasses;
+import com.example.archunitrules.architecture.ArchitectureRules;
+import com.example.archunitrules.architecture.ClassSelector;
+import com.example.archunitrules.architecture.ImportedClasses;
+import com.example.archunitrules.architecture.RegisteredRule;
+import com.example.archunitrules.architecture.facts.ClassFactsCache;
+import com.example.archunitrules.architecture.index.ClassIndex;
+import com.example.archunitrules.architecture.synthetic.SyntheticCodebaseGenerator;
+import com.example.archunitrules.architecture.synthetic.SyntheticViolation;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@AnalyzeImportedClasses
+class CompactClassGraphTests {
+    private final JavaClasses classes;
+    private final ArchitectureRules rules;
+
+    CompactClassGraphTests(JavaClasses classes, ArchitectureRules rules) {
+        this.classes = classes;
+        this.rules = rules;
+    }
+
+    @Test
+    void selectorsMatchTheSameApplicationClasses() {
+        CompactClassGraph graph = CompactClassGraph.of(ImportedClasses.facts().classes().values(), new ExternalTypes(getClass().getClassLoader()));
+
+        assertSameSelections(graph, classes, rules.all());
+    }
+
+    @Test
+    void selectorsMatchTheSameSyntheticClasses(@TempDir Path outputDirectory, @TempDir Path cacheDirectory) {
+        new SyntheticCodebaseGenerator(outputDirectory, 0.5, EnumSet.allOf(SyntheticViolation.class), 11L).generate(50);
+        JavaClasses syntheticClasses = new ClassFileImporter().importPath(outputDirectory);
+        CompactClassGraph graph = CompactClassGraph.of(
+                new ClassFactsCache(cacheDirectory.resolve("class-facts.bin")).load(List.of(outputDirectory)).classes().values(),
+                new ExternalTypes(getClass().getClassLoader())
+        );
+
+        assertThat(graph.size()).isEqualTo(syntheticClasses.size());
+        assertSameSelections(graph, syntheticClasses, new ArchitectureRules(new ClassIndex(syntheticClasses), SyntheticCodebaseGenerator.ROOT_PACKAGE).all());
+    }
+
+    private static void assertSameSelections(CompactClassGraph graph, JavaClasses classes, List<RegisteredRule> rules) {
+        rules.stream()
+                .map(RegisteredRule::selector)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(selector -> assertThat(Set.copyOf(graph.classNames(selector.select(graph))))
+                        .as(selector.description())
+                        .isEqualTo(selectedNames(classes, selector)));
+    }
+
+    private static Set<String> selectedNames(JavaClasses classes, ClassSelector selector) {
+        return classes.stream()
+                .filter(selector.predicate())
+                .map(JavaClass::getName)
+                .collect(Collectors.toSet());
+    }
+}
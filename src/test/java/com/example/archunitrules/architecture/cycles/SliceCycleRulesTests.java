@@ -0,0 +1,63 @@
+package com.example.archunitrules.architecture.cycles;
+
+import com.example.archunitrules.architecture.synthetic.GeneratedCodebase;
+import com.example.archunitrules.architecture.synthetic.SyntheticCodebaseGenerator;
+import com.example.archunitrules.architecture.synthetic.SyntheticViolation;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Set;
+
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.resideInAPackage;
+import static com.tngtech.archunit.library.dependencies.SlicesRuleDefinition.slices;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SliceCycleRulesTests {
+    private static final String ROOT_PACKAGE = SyntheticCodebaseGenerator.ROOT_PACKAGE;
+
+    @Test
+    void reportsOneMinimalCyclePerCyclicComponentLikeSliceRules(@TempDir Path outputDirectory) {
+        GeneratedCodebase codebase = new SyntheticCodebaseGenerator(
+                outputDirectory, 0.3, Set.of(SyntheticViolation.CYCLIC_SLICE_DEPENDENCY), 11L
+        ).generate(40);
+        JavaClasses classes = new ClassFileImporter().importPath(codebase.directory());
+
+        EvaluationResult result = cycleRule().evaluate(classes);
+
+        assertThat(result.getFailureReport().getDetails())
+                .hasSize(codebase.violations().get(SyntheticViolation.CYCLIC_SLICE_DEPENDENCY))
+                .allSatisfy(detail -> assertThat(detail).startsWith("Cycle detected: Slice feature").contains(" -> Slice shared"));
+        assertThat(sliceRule().evaluate(classes).hasViolation()).isTrue();
+    }
+
+    @Test
+    void acyclicCodebasePassesWithTheSliceRuleDescription(@TempDir Path outputDirectory) {
+        new SyntheticCodebaseGenerator(outputDirectory).generate(10);
+        JavaClasses classes = new ClassFileImporter().importPath(outputDirectory);
+
+        assertThat(cycleRule().evaluate(classes).hasViolation()).isFalse();
+        assertThat(cycleRule().getDescription()).isEqualTo(sliceRule().getDescription());
+    }
+
+    private static ArchRule cycleRule() {
+        return SliceCycleRules.slicesAreFreeOfCycles(
+                ROOT_PACKAGE,
+                resideInAPackage("..request..").or(resideInAPackage("..response..")),
+                SliceCycleRules.DEFAULT_MAX_CYCLES_PER_COMPONENT
+        );
+    }
+
+    private static ArchRule sliceRule() {
+        return slices()
+                .matching(ROOT_PACKAGE + ".(*)..")
+                .should().beFreeOfCycles()
+                .ignoreDependency(DescribedPredicate.alwaysTrue(), resideInAPackage("..request.."))
+                .ignoreDependency(DescribedPredicate.alwaysTrue(), resideInAPackage("..response.."));
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.archunitrules.architecture.engine;
+
+import com.example.archunitrules.architecture.AnalyzeImportedClasses;
+import com.example.archunitrules.architecture.ArchitectureRules;
+import com.example.archunitrules.architecture.RegisteredRule;
+import com.example.archunitrules.architecture.index.ClassIndex;
+import com.example.archunitrules.architecture.synthetic.GeneratedCodebase;
+import com.example.archunitrules.architecture.synthetic.SyntheticCodebaseGenerator;
+import com.example.archunitrules.architecture.synthetic.SyntheticViolation;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@AnalyzeImportedClasses
+class ParallelRuleEngineTests {
+    private static final int SYNTHETIC_FEATURE_SLICES = 400;
+    private static final int REPEATED_RUNS = 3;
+
+    private final JavaClasses classes;
+    private final ArchitectureRules rules;
+
+    ParallelRuleEngineTests(JavaClasses classes, ArchitectureRules rules) {
+        this.classes = classes;
+        this.rules = rules;
+    }
+
+    @Test
+    void chunkedParallelEvaluationReportsViolationsInSequentialOrder() {
+        List<RegisteredRule> registeredRules = rules.all();
+        RulePlan plan = RulePlan.create(classes, registeredRules);
+        try (ParallelRuleEngine engine = new ParallelRuleEngine(4, 2)) {
+            List<RuleEvaluation> evaluations = engine.evaluate(classes, registeredRules);
+
+            assertThat(evaluations).extracting(RuleEvaluation::rule).containsExactlyElementsOf(registeredRules);
+            for (RuleEvaluation evaluation : evaluations) {
+                assertThat(evaluation.result().getFailureReport().getDetails())
+                        .as(evaluation.rule().name())
+                        .containsExactlyElementsOf(evaluation.rule().rule().evaluate(classes).getFailureReport().getDetails());
+                assertThat(evaluation.selectedClasses())
+                        .as(evaluation.rule().name())
+                        .isEqualTo(plan.classesFor(evaluation.rule()).size());
+            }
+        }
+    }
+
+    @Test
+    void parallelEvaluationOfAViolatingCodebaseIsDeterministic(@TempDir Path outputDirectory) {
+        GeneratedCodebase codebase = new SyntheticCodebaseGenerator(outputDirectory, 1.0, EnumSet.allOf(SyntheticViolation.class), 42L)
+                .generate(SYNTHETIC_FEATURE_SLICES);
+        JavaClasses syntheticClasses = new ClassFileImporter().importPath(codebase.directory());
+        List<RegisteredRule> registeredRules = new ArchitectureRules(new ClassIndex(syntheticClasses), SyntheticCodebaseGenerator.ROOT_PACKAGE).all();
+        List<List<String>> sequentialDetails = registeredRules.stream()
+                .map(rule -> rule.rule().evaluate(syntheticClasses).getFailureReport().getDetails())
+                .toList();
+
+        assertThat(syntheticClasses.size()).isGreaterThan(SYNTHETIC_FEATURE_SLICES * (SyntheticCodebaseGenerator.CLASSES_PER_SLICE - 1));
+        assertThat(codebase.violations().values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(SYNTHETIC_FEATURE_SLICES);
+        assertThat(sequentialDetails.stream().mapToInt(List::size).sum()).isPositive();
+        for (int run = 0; run < REPEATED_RUNS; run++) {
+            try (ParallelRuleEngine engine = new ParallelRuleEngine(4, 64)) {
+                List<List<String>> parallelDetails = engine.evaluate(syntheticClasses, registeredRules).stream()
+                        .map(evaluation -> evaluation.result().getFailureReport().getDetails())
+                        .toList();
+
+                assertThat(parallelDetails).as("run %d", run).containsExactlyElementsOf(sequentialDetails);
+            }
+        }
+    }
+}
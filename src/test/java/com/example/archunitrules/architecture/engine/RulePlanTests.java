@@ -0,0 +1,63 @@
+package com.example.archunitrules.architecture.engine;
+
+import com.example.archunitrules.architecture.AnalyzeImportedClasses;
+import com.example.archunitrules.architecture.ArchitectureRules;
+import com.example.archunitrules.architecture.RegisteredRule;
+import com.example.archunitrules.architecture.index.ClassIndex;
+import com.example.archunitrules.architecture.synthetic.SyntheticCodebaseGenerator;
+import com.example.archunitrules.architecture.synthetic.SyntheticViolation;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@AnalyzeImportedClasses
+class RulePlanTests {
+    private final JavaClasses classes;
+    private final ArchitectureRules rules;
+
+    RulePlanTests(JavaClasses classes, ArchitectureRules rules) {
+        this.classes = classes;
+        this.rules = rules;
+    }
+
+    @Test
+    void plannedEvaluationReportsTheSameViolations() {
+        assertSameReports(classes, rules);
+    }
+
+    @Test
+    void rulesSelectWithinTheirSelectors() {
+        for (RegisteredRule rule : rules.all()) {
+            if (rule.selector() != null) {
+                assertThat(rule.rule().getDescription())
+                        .as(rule.name())
+                        .contains("that " + rule.selector().description());
+            }
+        }
+    }
+
+    @Test
+    void plannedEvaluationReportsTheSameViolationsOnViolatingCodebase(@TempDir Path outputDirectory) {
+        new SyntheticCodebaseGenerator(outputDirectory, 0.5, EnumSet.allOf(SyntheticViolation.class), 7L).generate(50);
+        JavaClasses syntheticClasses = new ClassFileImporter().importPath(outputDirectory);
+
+        assertSameReports(syntheticClasses, new ArchitectureRules(new ClassIndex(syntheticClasses), SyntheticCodebaseGenerator.ROOT_PACKAGE));
+    }
+
+    private static void assertSameReports(JavaClasses classes, ArchitectureRules rules) {
+        RulePlan plan = RulePlan.create(classes, rules.all());
+
+        assertThat(plan.selectors()).isLessThan(rules.all().size());
+        for (RegisteredRule rule : rules.all()) {
+            assertThat(rule.rule().evaluate(plan.classesFor(rule)).getFailureReport().getDetails())
+                    .as(rule.name())
+                    .containsExactlyElementsOf(rule.rule().evaluate(classes).getFailureReport().getDetails());
+        }
+    }
+}
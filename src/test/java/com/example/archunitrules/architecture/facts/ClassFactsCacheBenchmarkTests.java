@@ -0,0 +1,47 @@
+package com.example.archunitrules.architecture.facts;
+
+import com.example.archunitrules.architecture.synthetic.SyntheticCodebaseGenerator;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnabledIfSystemProperty(named = "archunit.benchmark", matches = "true")
+class ClassFactsCacheBenchmarkTests {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClassFactsCacheBenchmarkTests.class);
+    private static final int FEATURE_SLICES = 1_000;
+
+    @Test
+    void changeDetectionCostsLittleComparedToTheImport(@TempDir Path outputDirectory, @TempDir Path cacheDirectory) {
+        new SyntheticCodebaseGenerator(outputDirectory).generate(FEATURE_SLICES);
+        Path cacheFile = cacheDirectory.resolve("class-facts.bin");
+
+        long importStart = System.nanoTime();
+        JavaClasses classes = new ClassFileImporter().importPath(outputDirectory);
+        long importNanos = System.nanoTime() - importStart;
+        ClassFactsSnapshot cold = new ClassFactsCache(cacheFile).load(List.of(outputDirectory));
+        ClassFactsSnapshot warm = new ClassFactsCache(cacheFile).load(List.of(outputDirectory));
+
+        LOGGER.info(
+                "{} classes: ArchUnit import {} ms, change detection cold {} ms ({} parsed), warm {} ms ({} reused)",
+                classes.size(),
+                TimeUnit.NANOSECONDS.toMillis(importNanos),
+                cold.loadDuration().toMillis(),
+                cold.parsedClasses(),
+                warm.loadDuration().toMillis(),
+                warm.reusedClasses()
+        );
+        assertThat(cold.parsedClasses()).isEqualTo(classes.size());
+        assertThat(warm.reusedClasses()).isEqualTo(classes.size());
+        assertThat(warm.parsedClasses()).isZero();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.archunitrules.architecture.facts;
+
+import com.example.archunitrules.architecture.synthetic.SyntheticCodebaseGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassFactsCacheTests {
+    private final Path classDirectory;
+    private final Path cacheFile;
+
+    ClassFactsCacheTests(@TempDir Path classDirectory, @TempDir Path cacheDirectory) {
+        this.classDirectory = classDirectory;
+        this.cacheFile = cacheDirectory.resolve("class-facts.bin");
+        new SyntheticCodebaseGenerator(classDirectory).generate(2);
+    }
+
+    @Test
+    void reusesCachedFactsOfUnchangedClasses() {
+        ClassFactsSnapshot cold = new ClassFactsCache(cacheFile).load(List.of(classDirectory));
+        ClassFactsSnapshot warm = new ClassFactsCache(cacheFile).load(List.of(classDirectory));
+
+        assertThat(warm.reusedClasses()).isEqualTo(cold.parsedClasses());
+        assertThat(warm.parsedClasses()).isZero();
+        assertThat(warm.classes()).isEqualTo(cold.classes());
+    }
+
+    @Test
+    void rebuildsATruncatedCache() throws IOException {
+        ClassFactsSnapshot cold = new ClassFactsCache(cacheFile).load(List.of(classDirectory));
+        byte[] cache = Files.readAllBytes(cacheFile);
+        Files.write(cacheFile, Arrays.copyOf(cache, cache.length / 2));
+
+        assertRebuilt(cold);
+    }
+
+    @Test
+    void rebuildsACacheWithCorruptCounts() throws IOException {
+        ClassFactsSnapshot cold = new ClassFactsCache(cacheFile).load(List.of(classDirectory));
+        byte[] cache = Files.readAllBytes(cacheFile);
+
+        ByteBuffer.wrap(cache).putInt(2 * Integer.BYTES, Integer.MAX_VALUE);
+        Files.write(cacheFile, cache);
+        assertRebuilt(cold);
+
+        ByteBuffer.wrap(cache).putInt(2 * Integer.BYTES, -1);
+        Files.write(cacheFile, cache);
+        assertRebuilt(cold);
+    }
+
+    private void assertRebuilt(ClassFactsSnapshot expected) {
+        ClassFactsSnapshot rebuilt = new ClassFactsCache(cacheFile).load(List.of(classDirectory));
+
+        assertThat(rebuilt.reusedClasses()).isZero();
+        assertThat(rebuilt.classes()).isEqualTo(expected.classes());
+    }
+}
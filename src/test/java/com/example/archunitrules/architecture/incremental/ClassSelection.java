@@ -0,0 +1,16 @@
+package com.example.archunitrules.architecture.incremental;
+
+import java.util.Set;
+
+public record ClassSelection(
+        boolean allClasses,
+        Set<String> classNames
+) {
+    public static ClassSelection all() {
+        return new ClassSelection(true, Set.of());
+    }
+
+    public static ClassSelection of(Set<String> classNames) {
+        return new ClassSelection(false, Set.copyOf(classNames));
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.archunitrules.architecture.incremental;
+
+import com.example.archunitrules.architecture.RuleScope;
+import com.example.archunitrules.architecture.facts.ClassFacts;
+import com.example.archunitrules.architecture.facts.ClassFactsSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+public class IncrementalEvaluation {
+    private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalEvaluation.class);
+    private static final String RULES_FINGERPRINT = "rules.fingerprint";
+    private static final String CLASS_HASH_PREFIX = "class.hash.";
+    private static final String CLASS_DEPENDENCIES_PREFIX = "class.dependencies.";
+    private static final String GREEN_RULE_PREFIX = "rule.green.";
+
+    private final Path storeFile;
+    private final ClassFactsSnapshot facts;
+    private final String rulesFingerprint;
+    private final Set<String> previouslyGreenRules;
+    private final Set<String> changedClasses;
+    private final Set<String> affectedClasses;
+    private final Map<String, Boolean> results = new ConcurrentHashMap<>();
+
+    private IncrementalEvaluation(Path storeFile, ClassFactsSnapshot facts, String rulesFingerprint,
+                                  Set<String> previouslyGreenRules, Set<String> changedClasses, Set<String> affectedClasses) {
+        this.storeFile = storeFile;
+        this.facts = facts;
+        this.rulesFingerprint = rulesFingerprint;
+        this.previouslyGreenRules = previouslyGreenRules;
+        this.changedClasses = changedClasses;
+        this.affectedClasses = affectedClasses;
+    }
+
+    public static IncrementalEvaluation load(Path storeFile, ClassFactsSnapshot facts, String rulesFingerprint) {
+        Properties store = readStore(storeFile);
+        if (!rulesFingerprint.equals(store.getProperty(RULES_FINGERPRINT))) {
+            store.clear();
+        }
+        Map<String, String> previousHashes = new HashMap<>();
+        Map<String, Set<String>> previousDependencies = new HashMap<>();
+        Set<String> previouslyGreenRules = new HashSet<>();
+        for (String key : store.stringPropertyNames()) {
+            String value = store.getProperty(key);
+            if (key.startsWith(CLASS_HASH_PREFIX)) {
+                previousHashes.put(key.substring(CLASS_HASH_PREFIX.length()), value);
+            } else if (key.startsWith(CLASS_DEPENDENCIES_PREFIX)) {
+                previousDependencies.put(key.substring(CLASS_DEPENDENCIES_PREFIX.length()), splitNames(value));
+            } else if (key.startsWith(GREEN_RULE_PREFIX)) {
+                previouslyGreenRules.add(key.substring(GREEN_RULE_PREFIX.length()));
+            }
+        }
+
+        Set<String> changedClasses = new HashSet<>(previousHashes.keySet());
+        changedClasses.addAll(facts.hashes().keySet());
+        changedClasses.removeIf(className -> facts.hashes().get(className) != null
+                && facts.hashes().get(className).equals(previousHashes.get(className)));
+
+        Set<String> affectedClasses = new HashSet<>(changedClasses);
+        for (String changedClass : changedClasses) {
+            affectedClasses.addAll(previousDependencies.getOrDefault(changedClass, Set.of()));
+            ClassFacts changedFacts = facts.classes().get(changedClass);
+            if (changedFacts != null) {
+                affectedClasses.addAll(changedFacts.dependencies());
+            }
+        }
+        for (ClassFacts classFacts : facts.classes().values()) {
+            if (classFacts.dependencies().stream().anyMatch(changedClasses::contains)) {
+                affectedClasses.add(classFacts.name());
+            }
+        }
+        affectedClasses.retainAll(facts.classes().keySet());
+
+        return new IncrementalEvaluation(storeFile, facts, rulesFingerprint,
+                previouslyGreenRules, Set.copyOf(changedClasses), Set.copyOf(affectedClasses));
+    }
+
+    public ClassSelection select(String ruleKey, RuleScope scope) {
+        if (!previouslyGreenRules.contains(ruleKey)) {
+            return ClassSelection.all();
+        }
+        if (scope == RuleScope.ALL_CLASSES) {
+            return changedClasses.isEmpty() ? ClassSelection.of(Set.of()) : ClassSelection.all();
+        }
+        return ClassSelection.of(affectedClasses);
+    }
+
+    public void record(String ruleKey, boolean passed) {
+        results.merge(ruleKey, passed, Boolean::logicalAnd);
+    }
+
+    public synchronized void save() {
+        Properties store = new Properties();
+        store.setProperty(RULES_FINGERPRINT, rulesFingerprint);
+        facts.hashes().forEach((className, hash) -> store.setProperty(CLASS_HASH_PREFIX + className, hash));
+        facts.classes().forEach((className, classFacts) -> store.setProperty(
+                CLASS_DEPENDENCIES_PREFIX + className,
+                String.join(",", classFacts.dependencies())
+        ));
+        results.forEach((ruleKey, passed) -> {
+            if (passed) {
+                store.setProperty(GREEN_RULE_PREFIX + ruleKey, "true");
+            }
+        });
+        if (changedClasses.isEmpty()) {
+            previouslyGreenRules.stream()
+                    .filter(ruleKey -> !results.containsKey(ruleKey))
+                    .forEach(ruleKey -> store.setProperty(GREEN_RULE_PREFIX + ruleKey, "true"));
+        }
+        writeStore(store);
+        LOGGER.info(
+                "ArchUnit incremental evaluation: {} changed classes, {} affected classes, {} rules evaluated",
+                changedClasses.size(),
+                affectedClasses.size(),
+                results.size()
+        );
+    }
+
+    private static Set<String> splitNames(String value) {
+        return value.isEmpty() ? Set.of() : Arrays.stream(value.split(",")).collect(Collectors.toSet());
+    }
+
+    private static Properties readStore(Path storeFile) {
+        Properties store = new Properties();
+        if (Files.isRegularFile(storeFile)) {
+            try (InputStream input = Files.newInputStream(storeFile)) {
+                store.load(input);
+            } catch (IOException e) {
+                store.clear();
+            }
+        }
+        return store;
+    }
+
+    private void writeStore(Properties store) {
+        try {
+            Files.createDirectories(storeFile.toAbsolutePath().getParent());
+            try (OutputStream output = Files.newOutputStream(storeFile)) {
+                store.store(output, "ArchUnit rule results of the last run");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write rule results " + storeFile, e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.archunitrules.architecture.index;
+
+import com.example.archunitrules.architecture.synthetic.SyntheticCodebaseGenerator;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaCodeUnit;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import jakarta.validation.Valid;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnabledIfSystemProperty(named = "archunit.benchmark", matches = "true")
+class ClassIndexBenchmarkTests {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClassIndexBenchmarkTests.class);
+    private static final int FEATURE_SLICES = 1_000;
+
+    @Test
+    void indexedLookupsFindTheSameClassesAsFullScans(@TempDir Path outputDirectory) {
+        new SyntheticCodebaseGenerator(outputDirectory).generate(FEATURE_SLICES);
+        JavaClasses classes = new ClassFileImporter().importPath(outputDirectory);
+        List<JavaClass> requests = classes.stream().filter(javaClass -> javaClass.getPackageName().endsWith(".controller.request")).toList();
+        List<JavaClass> exceptions = classes.stream().filter(javaClass -> javaClass.getPackageName().endsWith(".exception")).toList();
+
+        long scanStart = System.nanoTime();
+        long scanMatches = requests.stream().filter(request -> isValidatedByScan(classes, request)).count()
+                + exceptions.stream().filter(exception -> isHandledByScan(classes, exception)).count();
+        long scanNanos = System.nanoTime() - scanStart;
+
+        long indexStart = System.nanoTime();
+        ClassIndex index = new ClassIndex(classes);
+        long indexBuildNanos = System.nanoTime() - indexStart;
+        long lookupStart = System.nanoTime();
+        long lookupMatches = requests.stream().filter(request -> isValidatedByLookup(index, request)).count()
+                + exceptions.stream().filter(exception -> isHandledByLookup(index, exception)).count();
+        long lookupNanos = System.nanoTime() - lookupStart;
+
+        LOGGER.info(
+                "{} classes: full scans {} ms, index build {} ms, indexed lookups {} ms",
+                classes.size(),
+                TimeUnit.NANOSECONDS.toMillis(scanNanos),
+                TimeUnit.NANOSECONDS.toMillis(indexBuildNanos),
+                TimeUnit.NANOSECONDS.toMillis(lookupNanos)
+        );
+        assertThat(lookupMatches).isEqualTo(scanMatches).isEqualTo(2L * FEATURE_SLICES);
+    }
+
+    private static boolean isValidatedByScan(JavaClasses classes, JavaClass request) {
+        String controllerPackageName = request.getPackageName().substring(0, request.getPackageName().lastIndexOf('.'));
+        return classes.stream()
+                .filter(javaClass -> javaClass.getPackageName().equals(controllerPackageName))
+                .filter(javaClass -> javaClass.isMetaAnnotatedWith(Controller.class))
+                .map(JavaClass::getMethods)
+                .flatMap(Collection::stream)
+                .map(JavaCodeUnit::getParameters)
+                .flatMap(Collection::stream)
+                .filter(javaParameter -> javaParameter.getRawType().equals(request))
+                .allMatch(javaParameter -> javaParameter.isAnnotatedWith(RequestBody.class) && javaParameter.isAnnotatedWith(Valid.class));
+    }
+
+    private static boolean isValidatedByLookup(ClassIndex index, JavaClass request) {
+        String controllerPackageName = request.getPackageName().substring(0, request.getPackageName().lastIndexOf('.'));
+        return index.methodParametersOfRawType(request).stream()
+                .filter(javaParameter -> javaParameter.getOwner().getOwner().getPackageName().equals(controllerPackageName))
+                .filter(javaParameter -> javaParameter.getOwner().getOwner().isMetaAnnotatedWith(Controller.class))
+                .allMatch(javaParameter -> javaParameter.isAnnotatedWith(RequestBody.class) && javaParameter.isAnnotatedWith(Valid.class));
+    }
+
+    private static boolean isHandledByScan(JavaClasses classes, JavaClass exception) {
+        return classes.stream()
+                .filter(javaClass -> javaClass.getPackageName().endsWith(".handler"))
+                .filter(javaClass -> javaClass.isMetaAnnotatedWith(ControllerAdvice.class))
+                .map(JavaClass::getAllMethods)
+                .flatMap(Collection::stream)
+                .filter(javaMethod -> javaMethod.isAnnotatedWith(ExceptionHandler.class))
+                .map(javaMethod -> javaMethod.getAnnotationOfType(ExceptionHandler.class.getName()).getProperties().get("value"))
+                .anyMatch(value -> Arrays.asList((Object[]) value).contains(exception));
+    }
+
+    private static boolean isHandledByLookup(ClassIndex index, JavaClass exception) {
+        return index.exceptionHandlerClassesFor(exception).stream()
+                .anyMatch(javaClass -> javaClass.getPackageName().endsWith(".handler"));
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.archunitrules.architecture.layers;
+
+import com.example.archunitrules.architecture.AnalyzeImportedClasses;
+import com.example.archunitrules.architecture.ArchitectureRules;
+import com.example.archunitrules.architecture.index.ClassIndex;
+import com.example.archunitrules.architecture.synthetic.SyntheticCodebaseGenerator;
+import com.example.archunitrules.architecture.synthetic.SyntheticViolation;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+import com.tngtech.archunit.library.Architectures;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static com.tngtech.archunit.library.Architectures.layeredArchitecture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@AnalyzeImportedClasses
+class LayeredArchitectureTests {
+    private static final int FEATURE_SLICES = 20;
+
+    private final JavaClasses classes;
+    private final ArchitectureRules rules;
+
+    LayeredArchitectureTests(JavaClasses classes, ArchitectureRules rules) {
+        this.classes = classes;
+        this.rules = rules;
+    }
+
+    @Test
+    void matchesTheBaselineRuleOnTheApplication() {
+        List<LayerAccess> accesses = assertSameDependencies(baselineLayers(), rules.layersAreAccessedFromTopToBottomOnly(), classes);
+
+        assertThat(accesses).isEmpty();
+    }
+
+    @Test
+    void matchesTheBaselineRuleOnASyntheticCodebase(@TempDir Path outputDirectory) {
+        new SyntheticCodebaseGenerator(outputDirectory, 0.5, Set.of(SyntheticViolation.REPOSITORY_ACCESSED_FROM_CONTROLLER), 3L).generate(FEATURE_SLICES);
+        JavaClasses syntheticClasses = new ClassFileImporter().importPath(outputDirectory);
+        ArchRule rule = new ArchitectureRules(new ClassIndex(syntheticClasses), SyntheticCodebaseGenerator.ROOT_PACKAGE).layersAreAccessedFromTopToBottomOnly();
+
+        List<LayerAccess> accesses = assertSameDependencies(baselineLayers(), rule, syntheticClasses);
+
+        assertThat(accesses)
+                .singleElement()
+                .satisfies(access -> assertThat(access.description()).startsWith("Layer 'Controller' accesses layer 'Repository' through "));
+    }
+
+    @Test
+    void assignsClassesToEveryMatchingLayer(@TempDir Path outputDirectory) {
+        new SyntheticCodebaseGenerator(outputDirectory, 1.0, Set.of(SyntheticViolation.REPOSITORY_ACCESSED_FROM_CONTROLLER), 3L).generate(FEATURE_SLICES);
+        JavaClasses syntheticClasses = new ClassFileImporter().importPath(outputDirectory);
+        Architectures.LayeredArchitecture baseline = layeredArchitecture().consideringOnlyDependenciesInLayers()
+                .layer("Web").definedBy("..controller..")
+                .layer("Api").definedBy("..controller")
+                .layer("Repository").definedBy("..repository")
+                .whereLayer("Repository").mayOnlyBeAccessedByLayers("Api");
+        ArchRule rule = LayeredArchitecture.layers()
+                .layer("Web", "..controller..")
+                .layer("Api", "..controller")
+                .layer("Repository", "..repository")
+                .mayOnlyBeAccessedByLayers("Repository", "Api")
+                .rule();
+
+        List<LayerAccess> accesses = assertSameDependencies(baseline, rule, syntheticClasses);
+
+        assertThat(accesses).isEmpty();
+    }
+
+    @Test
+    void reportsOneViolationPerForbiddenLayerAccess(@TempDir Path outputDirectory) {
+        new SyntheticCodebaseGenerator(outputDirectory, 1.0, Set.of(SyntheticViolation.REPOSITORY_ACCESSED_FROM_CONTROLLER), 3L).generate(FEATURE_SLICES);
+        JavaClasses syntheticClasses = new ClassFileImporter().importPath(outputDirectory);
+
+        EvaluationResult result = LayeredArchitecture.layers()
+                .layer("Controller", "..controller")
+                .layer("Repository", "..repository")
+                .mayNotBeAccessedByAnyLayer("Controller")
+                .mayNotBeAccessedByAnyLayer("Repository")
+                .rule()
+                .evaluate(syntheticClasses);
+
+        assertThat(result.getFailureReport().getDetails())
+                .hasSize(1)
+                .first()
+                .asString()
+                .startsWith("Layer 'Controller' accesses layer 'Repository' through ");
+    }
+
+    @Test
+    void rejectsConstraintsOnUndefinedLayers() {
+        assertThatThrownBy(() -> LayeredArchitecture.layers()
+                .layer("Controller", "..controller")
+                .mayOnlyBeAccessedByLayers("Controller", "Service"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Layer Service is not defined");
+    }
+
+    private static Architectures.LayeredArchitecture baselineLayers() {
+        return layeredArchitecture().consideringOnlyDependenciesInLayers()
+                .layer("Controller").definedBy("..controller")
+                .layer("Service").definedBy("..service")
+                .layer("Repository").definedBy("..repository")
+                .whereLayer("Controller").mayNotBeAccessedByAnyLayer()
+                .whereLayer("Service").mayOnlyBeAccessedByLayers("Controller")
+                .whereLayer("Repository").mayOnlyBeAccessedByLayers("Service");
+    }
+
+    private static List<LayerAccess> assertSameDependencies(Architectures.LayeredArchitecture baseline, ArchRule rule, JavaClasses classes) {
+        List<String> baselineDetails = baseline.evaluate(classes).getFailureReport().getDetails();
+        List<LayerAccess> accesses = new ArrayList<>();
+        rule.evaluate(classes).handleViolations((Collection<LayerAccess> violatingAccesses, String message) -> accesses.addAll(violatingAccesses));
+
+        assertThat(accesses.stream().mapToInt(LayerAccess::dependencies).sum()).isEqualTo(baselineDetails.size());
+        assertThat(accesses)
+                .flatExtracting(LayerAccess::examples)
+                .extracting(Dependency::getDescription)
+                .allSatisfy(description -> assertThat(baselineDetails).contains(description));
+        return accesses;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.archunitrules.architecture.profiling;
+
+import com.example.archunitrules.architecture.AnalyzeImportedClasses;
+import com.example.archunitrules.architecture.ArchitectureRules;
+import com.example.archunitrules.architecture.RuleScope;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+import jakarta.persistence.Entity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@AnalyzeImportedClasses
+class RuleProfilerTests {
+    private final JavaClasses classes;
+    private final ArchitectureRules rules;
+
+    RuleProfilerTests(JavaClasses classes, ArchitectureRules rules) {
+        this.classes = classes;
+        this.rules = rules;
+    }
+
+    @Test
+    void profiledEvaluationKeepsTheResultAndWritesReports(@TempDir Path reportDirectory) throws IOException {
+        ArchRule rule = rules.entitiesHaveEqualsAndHashCode();
+        RuleProfiler profiler = new RuleProfiler(reportDirectory);
+        JavaClasses entities = classes.that(CanBeAnnotated.Predicates.annotatedWith(Entity.class));
+
+        EvaluationResult result = profiler.evaluate(rule, RuleScope.AFFECTED_CLASSES, entities);
+        profiler.writeReport(List.of(new ImportPhase("import classes", 1L)));
+
+        assertThat(result.getFailureReport().getDetails()).isEqualTo(rule.evaluate(classes).getFailureReport().getDetails());
+        assertThat(Files.readString(reportDirectory.resolve("rule-profile.json")))
+                .contains("\"import classes\"")
+                .contains("\"selectedClasses\" : " + entities.size())
+                .contains("\"conditionChecks\" : " + entities.size());
+        assertThat(Files.readAllLines(reportDirectory.resolve("rule-profile.csv")))
+                .hasSize(2)
+                .last().asString().startsWith("\"" + rule.getDescription() + "\",AFFECTED_CLASSES," + entities.size() + "," + entities.size() + ",");
+    }
+
+    @Test
+    void memberRulesReportTheMembersTheirConditionsChecked(@TempDir Path reportDirectory) throws IOException {
+        ArchRule rule = rules.utilityMethodsAreStatic();
+        RuleProfiler profiler = new RuleProfiler(reportDirectory);
+        JavaClasses utilities = classes.that(JavaClass.Predicates.resideInAPackage("..util"));
+        long utilityMethods = utilities.stream()
+                .mapToLong(utility -> utility.getMethods().size())
+                .sum();
+
+        profiler.evaluate(rule, RuleScope.AFFECTED_CLASSES, utilities);
+        profiler.writeReport(List.of());
+
+        assertThat(utilityMethods).isGreaterThan(utilities.size());
+        assertThat(Files.readAllLines(reportDirectory.resolve("rule-profile.csv")))
+                .last().asString().startsWith("\"" + rule.getDescription() + "\",AFFECTED_CLASSES," + utilities.size() + "," + utilityMethods + ",");
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.archunitrules.architecture.synthetic;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+public record GeneratedCodebase(
+        Path directory,
+        int classes,
+        Map<SyntheticViolation, Integer> violations
+) {
+}
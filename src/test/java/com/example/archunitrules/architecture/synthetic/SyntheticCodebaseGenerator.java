@@ -0,0 +1,449 @@
+package com.example.archunitrules.architecture.synthetic;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.objectweb.asm.Opcodes.*;
+
+public class SyntheticCodebaseGenerator {
+    public static final String ROOT_PACKAGE = "com.example.synthetic";
+    public static final int CLASSES_PER_SLICE = 10;
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String RECORD = "java/lang/Record";
+    private static final String STRING = "Ljava/lang/String;";
+    private static final String UUID = "Ljava/util/UUID;";
+    private static final String BASE_EXCEPTION = "com/example/archunitrules/common/exception/BaseParametrizedException";
+    private static final String JPA_REPOSITORY = "org/springframework/data/jpa/repository/JpaRepository";
+
+    private static final String REST_CONTROLLER = "Lorg/springframework/web/bind/annotation/RestController;";
+    private static final String POST_MAPPING = "Lorg/springframework/web/bind/annotation/PostMapping;";
+    private static final String GET_MAPPING = "Lorg/springframework/web/bind/annotation/GetMapping;";
+    private static final String PATH_VARIABLE = "Lorg/springframework/web/bind/annotation/PathVariable;";
+    private static final String REQUEST_BODY = "Lorg/springframework/web/bind/annotation/RequestBody;";
+    private static final String CONTROLLER_ADVICE = "Lorg/springframework/web/bind/annotation/ControllerAdvice;";
+    private static final String EXCEPTION_HANDLER = "Lorg/springframework/web/bind/annotation/ExceptionHandler;";
+    private static final String OPERATION = "Lio/swagger/v3/oas/annotations/Operation;";
+    private static final String API_RESPONSE = "Lio/swagger/v3/oas/annotations/responses/ApiResponse;";
+    private static final String VALID = "Ljakarta/validation/Valid;";
+    private static final String NOT_BLANK = "Ljakarta/validation/constraints/NotBlank;";
+    private static final String SERVICE = "Lorg/springframework/stereotype/Service;";
+    private static final String COMPONENT = "Lorg/springframework/stereotype/Component;";
+    private static final String ENTITY = "Ljakarta/persistence/Entity;";
+    private static final String TABLE = "Ljakarta/persistence/Table;";
+    private static final String ID = "Ljakarta/persistence/Id;";
+
+    private final Path outputDirectory;
+    private final double violationRate;
+    private final List<SyntheticViolation> violations;
+    private final Random random;
+
+    public SyntheticCodebaseGenerator(Path outputDirectory) {
+        this(outputDirectory, 0.0, EnumSet.allOf(SyntheticViolation.class), 0L);
+    }
+
+    public SyntheticCodebaseGenerator(Path outputDirectory, double violationRate, Set<SyntheticViolation> violations, long seed) {
+        this.outputDirectory = outputDirectory;
+        this.violationRate = violationRate;
+        this.violations = List.copyOf(EnumSet.copyOf(violations));
+        this.random = new Random(seed);
+    }
+
+    public GeneratedCodebase generateClasses(int classCount) {
+        return generate((classCount + CLASSES_PER_SLICE - 1) / CLASSES_PER_SLICE);
+    }
+
+    public GeneratedCodebase generate(int featureSlices) {
+        Map<SyntheticViolation, Integer> injectedViolations = new EnumMap<>(SyntheticViolation.class);
+        int classes = 0;
+        for (int sliceNumber = 0; sliceNumber < featureSlices; sliceNumber++) {
+            SyntheticViolation violation = nextViolation();
+            if (violation != null) {
+                injectedViolations.merge(violation, 1, Integer::sum);
+            }
+            classes += generateSlice(new Slice(sliceNumber), violation);
+        }
+        return new GeneratedCodebase(outputDirectory, classes, Map.copyOf(injectedViolations));
+    }
+
+    private SyntheticViolation nextViolation() {
+        if (violations.isEmpty() || random.nextDouble() >= violationRate) {
+            return null;
+        }
+        return violations.get(random.nextInt(violations.size()));
+    }
+
+    private int generateSlice(Slice slice, SyntheticViolation violation) {
+        write(slice.request, recordClass(slice.request, List.of(new Component("title", STRING), new Component("content", STRING)), NOT_BLANK));
+        write(slice.response, recordClass(slice.response, List.of(new Component("id", UUID), new Component("title", STRING)), null));
+        write(slice.controller, controllerClass(slice, violation));
+        write(slice.service, serviceInterface(slice));
+        write(slice.serviceImpl, serviceImplementationClass(slice, violation));
+        write(slice.repository, repositoryInterface(slice));
+        write(slice.entity, entityClass(slice, violation));
+        write(slice.mapper, mapperClass(slice, violation));
+        write(slice.exception, exceptionClass(slice.exception));
+        if (violation == SyntheticViolation.CYCLIC_SLICE_DEPENDENCY) {
+            write(slice.sharedValue, sharedValueClass(slice));
+        }
+        if (violation == SyntheticViolation.UNHANDLED_EXCEPTION) {
+            return CLASSES_PER_SLICE - 1;
+        }
+        write(slice.handler, handlerClass(slice.handler, slice.exception));
+        return violation == SyntheticViolation.CYCLIC_SLICE_DEPENDENCY ? CLASSES_PER_SLICE + 1 : CLASSES_PER_SLICE;
+    }
+
+    private static byte[] recordClass(String name, List<Component> components, String fieldAnnotation) {
+        ClassWriter writer = classWriter(ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_RECORD, name, RECORD);
+        for (Component component : components) {
+            writer.visitRecordComponent(component.name(), component.descriptor(), null).visitEnd();
+            FieldVisitor field = writer.visitField(ACC_PRIVATE | ACC_FINAL, component.name(), component.descriptor(), null, null);
+            if (fieldAnnotation != null) {
+                field.visitAnnotation(fieldAnnotation, true).visitEnd();
+            }
+            field.visitEnd();
+            getter(writer, name, component);
+        }
+        injectingConstructor(writer, name, RECORD, components);
+        return finish(writer);
+    }
+
+    private static byte[] controllerClass(Slice slice, SyntheticViolation violation) {
+        ClassWriter writer = classWriter(ACC_PUBLIC | ACC_SUPER, slice.controller, OBJECT);
+        annotate(writer.visitAnnotation(REST_CONTROLLER, true));
+        if (violation != SyntheticViolation.MISSING_PATH_FIELD) {
+            writer.visitField(ACC_PUBLIC | ACC_STATIC | ACC_FINAL, "PATH", STRING, null, "/v1/" + slice.feature.toLowerCase()).visitEnd();
+        }
+        List<Component> dependencies = violation == SyntheticViolation.REPOSITORY_ACCESSED_FROM_CONTROLLER
+                ? List.of(new Component("service", descriptor(slice.service)), new Component("repository", descriptor(slice.repository)))
+                : List.of(new Component("service", descriptor(slice.service)));
+        for (Component dependency : dependencies) {
+            writer.visitField(ACC_PRIVATE | ACC_FINAL, dependency.name(), dependency.descriptor(), null, null).visitEnd();
+        }
+        injectingConstructor(writer, slice.controller, OBJECT, dependencies);
+
+        MethodVisitor create = writer.visitMethod(ACC_PUBLIC, "create", "(" + descriptor(slice.request) + ")V", null, null);
+        create.visitParameter("request", 0);
+        annotateEndpoint(create, POST_MAPPING);
+        create.visitAnnotableParameterCount(1, true);
+        if (violation != SyntheticViolation.UNVALIDATED_REQUEST_BODY) {
+            annotate(create.visitParameterAnnotation(0, VALID, true));
+        }
+        annotate(create.visitParameterAnnotation(0, REQUEST_BODY, true));
+        create.visitCode();
+        create.visitVarInsn(ALOAD, 0);
+        create.visitFieldInsn(GETFIELD, slice.controller, "service", descriptor(slice.service));
+        create.visitVarInsn(ALOAD, 1);
+        create.visitMethodInsn(INVOKEINTERFACE, slice.service, "create", "(" + descriptor(slice.request) + ")" + UUID, true);
+        create.visitInsn(POP);
+        if (violation == SyntheticViolation.REPOSITORY_ACCESSED_FROM_CONTROLLER) {
+            create.visitVarInsn(ALOAD, 0);
+            create.visitFieldInsn(GETFIELD, slice.controller, "repository", descriptor(slice.repository));
+            create.visitMethodInsn(INVOKEINTERFACE, slice.repository, "count", "()J", true);
+            create.visitInsn(POP2);
+        }
+        create.visitInsn(RETURN);
+        endMethod(create);
+
+        MethodVisitor getOne = writer.visitMethod(ACC_PUBLIC, "getOne", "(" + UUID + ")" + descriptor(slice.response), null, null);
+        getOne.visitParameter("id", 0);
+        annotateEndpoint(getOne, GET_MAPPING);
+        getOne.visitAnnotableParameterCount(1, true);
+        annotate(getOne.visitParameterAnnotation(0, PATH_VARIABLE, true));
+        getOne.visitCode();
+        getOne.visitVarInsn(ALOAD, 0);
+        getOne.visitFieldInsn(GETFIELD, slice.controller, "service", descriptor(slice.service));
+        getOne.visitVarInsn(ALOAD, 1);
+        getOne.visitMethodInsn(INVOKEINTERFACE, slice.service, "getOne", "(" + UUID + ")" + descriptor(slice.response), true);
+        getOne.visitInsn(ARETURN);
+        endMethod(getOne);
+        return finish(writer);
+    }
+
+    private static byte[] serviceInterface(Slice slice) {
+        ClassWriter writer = classWriter(ACC_PUBLIC | ACC_ABSTRACT | ACC_INTERFACE, slice.service, OBJECT);
+        MethodVisitor create = writer.visitMethod(ACC_PUBLIC | ACC_ABSTRACT, "create", "(" + descriptor(slice.request) + ")" + UUID, null, null);
+        create.visitParameter("request", 0);
+        create.visitEnd();
+        MethodVisitor getOne = writer.visitMethod(ACC_PUBLIC | ACC_ABSTRACT, "getOne", "(" + UUID + ")" + descriptor(slice.response), null, null);
+        getOne.visitParameter("id", 0);
+        getOne.visitEnd();
+        return finish(writer);
+    }
+
+    private static byte[] serviceImplementationClass(Slice slice, SyntheticViolation violation) {
+        ClassWriter writer = classWriter(ACC_PUBLIC | ACC_SUPER, slice.serviceImpl, OBJECT, slice.service);
+        if (violation != SyntheticViolation.MISSING_SERVICE_ANNOTATION) {
+            annotate(writer.visitAnnotation(SERVICE, true));
+        }
+        List<Component> dependencies = List.of(
+                new Component("repository", descriptor(slice.repository)),
+                new Component("mapper", descriptor(slice.mapper))
+        );
+        for (Component dependency : dependencies) {
+            writer.visitField(ACC_PRIVATE | ACC_FINAL, dependency.name(), dependency.descriptor(), null, null).visitEnd();
+        }
+        injectingConstructor(writer, slice.serviceImpl, OBJECT, dependencies);
+
+        MethodVisitor create = writer.visitMethod(ACC_PUBLIC, "create", "(" + descriptor(slice.request) + ")" + UUID, null, null);
+        create.visitParameter("request", 0);
+        create.visitCode();
+        create.visitVarInsn(ALOAD, 0);
+        create.visitFieldInsn(GETFIELD, slice.serviceImpl, "repository", descriptor(slice.repository));
+        create.visitVarInsn(ALOAD, 0);
+        create.visitFieldInsn(GETFIELD, slice.serviceImpl, "mapper", descriptor(slice.mapper));
+        create.visitVarInsn(ALOAD, 1);
+        create.visitMethodInsn(INVOKEVIRTUAL, slice.mapper, "toEntity", "(" + descriptor(slice.request) + ")" + descriptor(slice.entity), false);
+        create.visitMethodInsn(INVOKEINTERFACE, slice.repository, "save", "(Ljava/lang/Object;)Ljava/lang/Object;", true);
+        create.visitTypeInsn(CHECKCAST, slice.entity);
+        create.visitMethodInsn(INVOKEVIRTUAL, slice.entity, "id", "()" + UUID, false);
+        create.visitInsn(ARETURN);
+        endMethod(create);
+
+        MethodVisitor getOne = writer.visitMethod(ACC_PUBLIC, "getOne", "(" + UUID + ")" + descriptor(slice.response), null, null);
+        getOne.visitParameter("id", 0);
+        getOne.visitCode();
+        getOne.visitVarInsn(ALOAD, 0);
+        getOne.visitFieldInsn(GETFIELD, slice.serviceImpl, "mapper", descriptor(slice.mapper));
+        getOne.visitVarInsn(ALOAD, 0);
+        getOne.visitFieldInsn(GETFIELD, slice.serviceImpl, "repository", descriptor(slice.repository));
+        getOne.visitVarInsn(ALOAD, 1);
+        getOne.visitMethodInsn(INVOKEINTERFACE, slice.repository, "getReferenceById", "(Ljava/lang/Object;)Ljava/lang/Object;", true);
+        getOne.visitTypeInsn(CHECKCAST, slice.entity);
+        getOne.visitMethodInsn(INVOKEVIRTUAL, slice.mapper, "toResponse", "(" + descriptor(slice.entity) + ")" + descriptor(slice.response), false);
+        getOne.visitInsn(ARETURN);
+        endMethod(getOne);
+        return finish(writer);
+    }
+
+    private static byte[] repositoryInterface(Slice slice) {
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        String signature = "L" + OBJECT + ";L" + JPA_REPOSITORY + "<" + descriptor(slice.entity) + UUID + ">;";
+        writer.visit(V17, ACC_PUBLIC | ACC_ABSTRACT | ACC_INTERFACE, slice.repository, signature, OBJECT, new String[]{JPA_REPOSITORY});
+        return finish(writer);
+    }
+
+    private static byte[] entityClass(Slice slice, SyntheticViolation violation) {
+        ClassWriter writer = classWriter(ACC_PUBLIC | ACC_SUPER, slice.entity, OBJECT);
+        annotate(writer.visitAnnotation(ENTITY, true));
+        AnnotationVisitor table = writer.visitAnnotation(TABLE, true);
+        table.visit("name", violation == SyntheticViolation.UNNAMED_TABLE ? "" : slice.feature.toLowerCase());
+        table.visitEnd();
+        FieldVisitor id = writer.visitField(ACC_PRIVATE, "id", UUID, null, null);
+        annotate(id.visitAnnotation(ID, true));
+        id.visitEnd();
+        writer.visitField(ACC_PRIVATE, "title", STRING, null, null).visitEnd();
+        if (violation == SyntheticViolation.CYCLIC_SLICE_DEPENDENCY) {
+            writer.visitField(ACC_PRIVATE, "sharedValue", descriptor(slice.sharedValue), null, null).visitEnd();
+        }
+        injectingConstructor(writer, slice.entity, OBJECT, List.of());
+        List<Component> fields = List.of(new Component("id", UUID), new Component("title", STRING));
+        injectingConstructor(writer, slice.entity, OBJECT, fields);
+        fields.forEach(field -> getter(writer, slice.entity, field));
+
+        MethodVisitor equals = writer.visitMethod(ACC_PUBLIC, "equals", "(Ljava/lang/Object;)Z", null, null);
+        equals.visitParameter("another", 0);
+        equals.visitCode();
+        equals.visitVarInsn(ALOAD, 0);
+        equals.visitVarInsn(ALOAD, 1);
+        equals.visitMethodInsn(INVOKESTATIC, "java/util/Objects", "equals", "(Ljava/lang/Object;Ljava/lang/Object;)Z", false);
+        equals.visitInsn(IRETURN);
+        endMethod(equals);
+
+        MethodVisitor hashCode = writer.visitMethod(ACC_PUBLIC, "hashCode", "()I", null, null);
+        hashCode.visitCode();
+        hashCode.visitVarInsn(ALOAD, 0);
+        hashCode.visitFieldInsn(GETFIELD, slice.entity, "id", UUID);
+        hashCode.visitMethodInsn(INVOKESTATIC, "java/util/Objects", "hashCode", "(Ljava/lang/Object;)I", false);
+        hashCode.visitInsn(IRETURN);
+        endMethod(hashCode);
+        return finish(writer);
+    }
+
+    private static byte[] mapperClass(Slice slice, SyntheticViolation violation) {
+        ClassWriter writer = classWriter(ACC_PUBLIC | ACC_SUPER, slice.mapper, OBJECT);
+        annotate(writer.visitAnnotation(COMPONENT, true));
+        injectingConstructor(writer, slice.mapper, OBJECT, List.of());
+
+        MethodVisitor toEntity = writer.visitMethod(ACC_PUBLIC, "toEntity", "(" + descriptor(slice.request) + ")" + descriptor(slice.entity), null, null);
+        toEntity.visitParameter(violation == SyntheticViolation.WRONG_MAPPER_PARAMETER_NAME ? "source" : "request", 0);
+        toEntity.visitCode();
+        toEntity.visitTypeInsn(NEW, slice.entity);
+        toEntity.visitInsn(DUP);
+        toEntity.visitMethodInsn(INVOKESTATIC, "java/util/UUID", "randomUUID", "()" + UUID, false);
+        toEntity.visitVarInsn(ALOAD, 1);
+        toEntity.visitMethodInsn(INVOKEVIRTUAL, slice.request, "title", "()" + STRING, false);
+        toEntity.visitMethodInsn(INVOKESPECIAL, slice.entity, "<init>", "(" + UUID + STRING + ")V", false);
+        toEntity.visitInsn(ARETURN);
+        endMethod(toEntity);
+
+        MethodVisitor toResponse = writer.visitMethod(ACC_PUBLIC, "toResponse", "(" + descriptor(slice.entity) + ")" + descriptor(slice.response), null, null);
+        toResponse.visitParameter("entity", 0);
+        toResponse.visitCode();
+        toResponse.visitTypeInsn(NEW, slice.response);
+        toResponse.visitInsn(DUP);
+        toResponse.visitVarInsn(ALOAD, 1);
+        toResponse.visitMethodInsn(INVOKEVIRTUAL, slice.entity, "id", "()" + UUID, false);
+        toResponse.visitVarInsn(ALOAD, 1);
+        toResponse.visitMethodInsn(INVOKEVIRTUAL, slice.entity, "title", "()" + STRING, false);
+        toResponse.visitMethodInsn(INVOKESPECIAL, slice.response, "<init>", "(" + UUID + STRING + ")V", false);
+        toResponse.visitInsn(ARETURN);
+        endMethod(toResponse);
+        return finish(writer);
+    }
+
+    private static byte[] exceptionClass(String name) {
+        ClassWriter writer = classWriter(ACC_PUBLIC | ACC_SUPER, name, BASE_EXCEPTION);
+        MethodVisitor constructor = writer.visitMethod(ACC_PUBLIC, "<init>", "(Ljava/lang/Object;)V", null, null);
+        constructor.visitParameter("parameter", 0);
+        constructor.visitCode();
+        constructor.visitVarInsn(ALOAD, 0);
+        constructor.visitLdcInsn("Entity %s not found");
+        constructor.visitVarInsn(ALOAD, 1);
+        constructor.visitMethodInsn(INVOKESPECIAL, BASE_EXCEPTION, "<init>", "(Ljava/lang/String;Ljava/lang/Object;)V", false);
+        constructor.visitInsn(RETURN);
+        endMethod(constructor);
+        return finish(writer);
+    }
+
+    private static byte[] sharedValueClass(Slice slice) {
+        ClassWriter writer = classWriter(ACC_PUBLIC | ACC_SUPER, slice.sharedValue, OBJECT);
+        writer.visitField(ACC_PRIVATE, "owner", descriptor(slice.entity), null, null).visitEnd();
+        injectingConstructor(writer, slice.sharedValue, OBJECT, List.of());
+        return finish(writer);
+    }
+
+    private static byte[] handlerClass(String name, String exception) {
+        ClassWriter writer = classWriter(ACC_PUBLIC | ACC_SUPER, name, OBJECT);
+        annotate(writer.visitAnnotation(CONTROLLER_ADVICE, true));
+        injectingConstructor(writer, name, OBJECT, List.of());
+        MethodVisitor handle = writer.visitMethod(ACC_PUBLIC, "handleException", "(" + descriptor(exception) + ")V", null, null);
+        handle.visitParameter("exception", 0);
+        AnnotationVisitor exceptionHandler = handle.visitAnnotation(EXCEPTION_HANDLER, true);
+        AnnotationVisitor handledTypes = exceptionHandler.visitArray("value");
+        handledTypes.visit(null, Type.getObjectType(exception));
+        handledTypes.visitEnd();
+        exceptionHandler.visitEnd();
+        handle.visitCode();
+        handle.visitInsn(RETURN);
+        endMethod(handle);
+        return finish(writer);
+    }
+
+    private static ClassWriter classWriter(int access, String name, String superName, String... interfaces) {
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(V17, access, name, null, superName, interfaces);
+        return writer;
+    }
+
+    private static void injectingConstructor(ClassWriter writer, String owner, String superName, List<Component> fields) {
+        StringBuilder descriptor = new StringBuilder("(");
+        fields.forEach(field -> descriptor.append(field.descriptor()));
+        MethodVisitor constructor = writer.visitMethod(ACC_PUBLIC, "<init>", descriptor.append(")V").toString(), null, null);
+        fields.forEach(field -> constructor.visitParameter(field.name(), 0));
+        constructor.visitCode();
+        constructor.visitVarInsn(ALOAD, 0);
+        constructor.visitMethodInsn(INVOKESPECIAL, superName, "<init>", "()V", false);
+        for (int i = 0; i < fields.size(); i++) {
+            constructor.visitVarInsn(ALOAD, 0);
+            constructor.visitVarInsn(ALOAD, i + 1);
+            constructor.visitFieldInsn(PUTFIELD, owner, fields.get(i).name(), fields.get(i).descriptor());
+        }
+        constructor.visitInsn(RETURN);
+        endMethod(constructor);
+    }
+
+    private static void getter(ClassWriter writer, String owner, Component field) {
+        MethodVisitor getter = writer.visitMethod(ACC_PUBLIC, field.name(), "()" + field.descriptor(), null, null);
+        getter.visitCode();
+        getter.visitVarInsn(ALOAD, 0);
+        getter.visitFieldInsn(GETFIELD, owner, field.name(), field.descriptor());
+        getter.visitInsn(ARETURN);
+        endMethod(getter);
+    }
+
+    private static void annotateEndpoint(MethodVisitor method, String mappingAnnotation) {
+        annotate(method.visitAnnotation(mappingAnnotation, true));
+        annotate(method.visitAnnotation(OPERATION, true));
+        annotate(method.visitAnnotation(API_RESPONSE, true));
+    }
+
+    private static void annotate(AnnotationVisitor annotation) {
+        annotation.visitEnd();
+    }
+
+    private static void endMethod(MethodVisitor method) {
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+    }
+
+    private static byte[] finish(ClassWriter writer) {
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static String descriptor(String internalName) {
+        return "L" + internalName + ";";
+    }
+
+    private void write(String internalName, byte[] bytecode) {
+        Path classFile = outputDirectory.resolve(internalName + ".class");
+        try {
+            Files.createDirectories(classFile.getParent());
+            Files.write(classFile, bytecode);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write synthetic class " + classFile, e);
+        }
+    }
+
+    private record Component(
+            String name,
+            String descriptor
+    ) {
+    }
+
+    private static class Slice {
+        private final String feature;
+        private final String controller;
+        private final String request;
+        private final String response;
+        private final String service;
+        private final String serviceImpl;
+        private final String repository;
+        private final String entity;
+        private final String mapper;
+        private final String exception;
+        private final String handler;
+        private final String sharedValue;
+
+        Slice(int number) {
+            feature = "Feature" + number;
+            String basePackage = (ROOT_PACKAGE + ".feature" + number).replace('.', '/');
+            controller = basePackage + "/controller/" + feature + "Controller";
+            request = basePackage + "/controller/request/Create" + feature + "Rq";
+            response = basePackage + "/controller/response/" + feature + "Response";
+            service = basePackage + "/service/" + feature + "Service";
+            serviceImpl = basePackage + "/service/impl/" + feature + "ServiceImpl";
+            repository = basePackage + "/repository/" + feature + "Repository";
+            entity = basePackage + "/entity/" + feature;
+            mapper = basePackage + "/mapper/" + feature + "Mapper";
+            exception = basePackage + "/exception/" + feature + "NotFoundException";
+            handler = basePackage + "/handler/" + feature + "ExceptionHandler";
+            sharedValue = (ROOT_PACKAGE + ".shared" + number).replace('.', '/') + "/model/" + feature + "SharedValue";
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.archunitrules.architecture.synthetic;
+
+import com.example.archunitrules.architecture.ArchitectureRules;
+import com.example.archunitrules.architecture.RegisteredRule;
+import com.example.archunitrules.architecture.index.ClassIndex;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyntheticCodebaseGeneratorTests {
+    private static final int FEATURE_SLICES = 10;
+
+    @Test
+    void generatedCodebaseFollowsAllConventions(@TempDir Path outputDirectory) {
+        GeneratedCodebase codebase = new SyntheticCodebaseGenerator(outputDirectory).generate(FEATURE_SLICES);
+        JavaClasses classes = new ClassFileImporter().importPath(codebase.directory());
+        ArchitectureRules rules = new ArchitectureRules(new ClassIndex(classes), SyntheticCodebaseGenerator.ROOT_PACKAGE);
+
+        assertThat(codebase.classes()).isEqualTo(FEATURE_SLICES * SyntheticCodebaseGenerator.CLASSES_PER_SLICE).isEqualTo(classes.size());
+        assertThat(codebase.violations()).isEmpty();
+        for (RegisteredRule rule : rules.all()) {
+            assertThat(rule.rule().evaluate(classes).hasViolation()).as(rule.name()).isFalse();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(SyntheticViolation.class)
+    void injectedViolationsAreReportedByTheirRules(SyntheticViolation violation, @TempDir Path outputDirectory) {
+        GeneratedCodebase codebase = new SyntheticCodebaseGenerator(outputDirectory, 1.0, Set.of(violation), 42L).generate(FEATURE_SLICES);
+        JavaClasses classes = new ClassFileImporter().importPath(codebase.directory());
+        ArchitectureRules rules = new ArchitectureRules(new ClassIndex(classes), SyntheticCodebaseGenerator.ROOT_PACKAGE);
+
+        assertThat(codebase.violations()).isEqualTo(Map.of(violation, FEATURE_SLICES));
+        assertThat(codebase.classes()).isEqualTo(classes.size());
+        assertThat(rules.rule(violation.ruleName()).rule().evaluate(classes).hasViolation()).isTrue();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.archunitrules.architecture.synthetic;
+
+public enum SyntheticViolation {
+    MISSING_PATH_FIELD("controllersHavePathField"),
+    UNVALIDATED_REQUEST_BODY("requestsWithValidationAnnotationsAreProperlyValidated"),
+    UNHANDLED_EXCEPTION("allExceptionsHaveHandlers"),
+    MISSING_SERVICE_ANNOTATION("allServicesMustBeAnnotatedWithServiceAnnotations"),
+    UNNAMED_TABLE("allEntitiesMustBeAnnotatedWithEntityAnnotations"),
+    WRONG_MAPPER_PARAMETER_NAME("mapperRequestArgumentsHaveProperNames"),
+    REPOSITORY_ACCESSED_FROM_CONTROLLER("layersAreAccessedFromTopToBottomOnly"),
+    CYCLIC_SLICE_DEPENDENCY("noCircularDependencies");
+
+    private final String ruleName;
+
+    SyntheticViolation(String ruleName) {
+        this.ruleName = ruleName;
+    }
+
+    public String ruleName() {
+        return ruleName;
+    }
+}
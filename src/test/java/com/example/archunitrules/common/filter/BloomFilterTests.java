@@ -0,0 +1,67 @@
+package com.example.archunitrules.common.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class BloomFilterTests {
+    private static final int INSERTIONS = 10_000;
+    private static final int PROBES = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    void containsEveryAddedId() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        List<UUID> ids = new ArrayList<>(INSERTIONS);
+        for (int i = 0; i < INSERTIONS; i++) {
+            ids.add(UUID.randomUUID());
+        }
+
+        ids.forEach(filter::add);
+
+        assertThat(ids).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void keepsTheFalsePositiveRateForRandomIds() {
+        Random random = new Random(7L);
+
+        assertThat(falsePositiveRate(value -> new UUID(random.nextLong(), random.nextLong())))
+                .isLessThan(2 * FALSE_POSITIVE_RATE);
+    }
+
+    @Test
+    void keepsTheFalsePositiveRateForSequentialIds() {
+        assertThat(falsePositiveRate(value -> new UUID(0, value))).isLessThan(2 * FALSE_POSITIVE_RATE);
+        assertThat(falsePositiveRate(value -> new UUID(value, 0))).isLessThan(2 * FALSE_POSITIVE_RATE);
+        assertThat(falsePositiveRate(value -> new UUID(value, value))).isLessThan(2 * FALSE_POSITIVE_RATE);
+    }
+
+    @Test
+    void rejectsInvalidSizing() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BloomFilter(0, FALSE_POSITIVE_RATE));
+        assertThatIllegalArgumentException().isThrownBy(() -> new BloomFilter(INSERTIONS, 0));
+        assertThatIllegalArgumentException().isThrownBy(() -> new BloomFilter(INSERTIONS, 1));
+    }
+
+    private static double falsePositiveRate(LongFunction<UUID> ids) {
+        BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        for (long i = 0; i < INSERTIONS; i++) {
+            filter.add(ids.apply(i));
+        }
+        int falsePositives = 0;
+        for (long i = INSERTIONS; i < INSERTIONS + PROBES; i++) {
+            if (filter.mightContain(ids.apply(i))) {
+                falsePositives++;
+            }
+        }
+        return (double) falsePositives / PROBES;
+    }
+}
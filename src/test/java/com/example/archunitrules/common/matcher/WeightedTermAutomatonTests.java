@@ -0,0 +1,90 @@
+package com.example.archunitrules.common.matcher;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+
+class WeightedTermAutomatonTests {
+    private static final List<WeightedTerm> TERMS = List.of(
+            new WeightedTerm("kill", 0, 2.0),
+            new WeightedTerm("red alert", 0, 1.0),
+            new WeightedTerm("alert", 1, 0.5),
+            new WeightedTerm("gun", 1, 1.5),
+            new WeightedTerm("gunfire", 1, 3.0)
+    );
+
+    private final WeightedTermAutomaton automaton = WeightedTermAutomaton.build(2, TERMS);
+
+    @Test
+    void scoresWholeWordsIgnoringCase() {
+        double[] scores = new double[2];
+
+        automaton.score("KILL the killer, then kill again", scores);
+
+        assertThat(scores).containsExactly(4.0, 0.0);
+    }
+
+    @Test
+    void scoresTermsEndingInsideLongerTerms() {
+        double[] scores = new double[2];
+
+        automaton.score("Red alert: gunfire and a gun", scores);
+
+        assertThat(scores).containsExactly(1.0, 5.0);
+    }
+
+    @Test
+    void resetsScoresBeforeScoring() {
+        double[] scores = {9.0, 9.0, 9.0};
+
+        automaton.score("nothing to see", scores);
+
+        assertThat(scores).containsExactly(0.0, 0.0, 9.0);
+    }
+
+    @Test
+    void matchesNaiveScoringOnRandomText() {
+        List<String> words = List.of("kill", "killer", "red", "alert", "gun", "gunfire", "fire", "a", "skill");
+        Random random = new Random(7L);
+        double[] scores = new double[2];
+        for (int sample = 0; sample < 200; sample++) {
+            StringBuilder text = new StringBuilder();
+            for (int word = 0; word < 30; word++) {
+                text.append(words.get(random.nextInt(words.size()))).append(random.nextBoolean() ? " " : ".");
+            }
+
+            automaton.score(text, scores);
+
+            double[] expected = naiveScores(text.toString());
+            assertThat(scores[0]).as(text.toString()).isCloseTo(expected[0], within(1e-9));
+            assertThat(scores[1]).as(text.toString()).isCloseTo(expected[1], within(1e-9));
+        }
+    }
+
+    @Test
+    void rejectsInvalidTermsAndScores() {
+        assertThatIllegalArgumentException().isThrownBy(() -> WeightedTermAutomaton.build(1, List.of(new WeightedTerm(" ", 0, 1.0))));
+        assertThatIllegalArgumentException().isThrownBy(() -> WeightedTermAutomaton.build(1, List.of(new WeightedTerm("gun", 1, 1.0))));
+        assertThatIllegalArgumentException().isThrownBy(() -> automaton.score("gun", new double[1]));
+    }
+
+    private static double[] naiveScores(String text) {
+        double[] scores = new double[2];
+        String lowerCase = text.toLowerCase();
+        for (WeightedTerm term : TERMS) {
+            for (int start = lowerCase.indexOf(term.term()); start >= 0; start = lowerCase.indexOf(term.term(), start + 1)) {
+                int end = start + term.term().length();
+                if ((start == 0 || !Character.isLetterOrDigit(text.charAt(start - 1)))
+                        && (end == text.length() || !Character.isLetterOrDigit(text.charAt(end)))) {
+                    scores[term.category()] += term.weight();
+                }
+            }
+        }
+        return scores;
+    }
+}
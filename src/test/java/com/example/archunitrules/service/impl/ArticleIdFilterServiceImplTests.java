@@ -0,0 +1,87 @@
+package com.example.archunitrules.service.impl;
+
+import com.example.archunitrules.exception.ArticleNotFoundException;
+import com.example.archunitrules.mapper.ArticleMapper;
+import com.example.archunitrules.repository.ArticleRepository;
+import com.example.archunitrules.service.AgeRatingPipelineService;
+import com.example.archunitrules.service.AgeRatingService;
+import com.example.archunitrules.util.TimeOrderedUuidUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ArticleIdFilterServiceImplTests {
+    private final UUID existingId = timeOrderedId(Instant.now().minus(Duration.ofDays(1)), 1L);
+    private final ArticleRepository articleRepository = mock(ArticleRepository.class);
+    private final ArticleIdFilterServiceImpl articleIdFilterService = new ArticleIdFilterServiceImpl(articleRepository);
+
+    @BeforeEach
+    void rebuildFilter() {
+        when(articleRepository.count()).thenReturn(1L);
+        doAnswer(invocation -> {
+            invocation.<Consumer<UUID>>getArgument(0).accept(existingId);
+            return null;
+        }).when(articleRepository).forEachId(any());
+        articleIdFilterService.rebuild();
+        clearInvocations(articleRepository);
+    }
+
+    @Test
+    void answersUnknownOldIdsWithoutTheDatabase() {
+        ArticleServiceImpl articleService = new ArticleServiceImpl(
+                new ArticleMapper(),
+                articleRepository,
+                mock(TransactionTemplate.class),
+                mock(Validator.class),
+                articleIdFilterService,
+                mock(ApplicationEventPublisher.class),
+                mock(AgeRatingService.class),
+                mock(AgeRatingPipelineService.class),
+                new ObjectMapper());
+        UUID unknownId = timeOrderedId(Instant.now().minus(Duration.ofDays(1)), 2L);
+
+        assertThatThrownBy(() -> articleService.getOne(unknownId)).isInstanceOf(ArticleNotFoundException.class);
+        verifyNoInteractions(articleRepository);
+    }
+
+    @Test
+    void answersIdsThatAreNotTimeOrderedWithoutTheDatabase() {
+        assertThat(articleIdFilterService.mightExist(UUID.randomUUID())).isFalse();
+        verifyNoInteractions(articleRepository);
+    }
+
+    @Test
+    void checksIdsCreatedSinceTheRebuildStartedAgainstTheDatabase() {
+        UUID createdElsewhere = TimeOrderedUuidUtils.generate();
+        UUID unknown = TimeOrderedUuidUtils.generate();
+        when(articleRepository.existsById(createdElsewhere)).thenReturn(true);
+
+        assertThat(articleIdFilterService.mightExist(createdElsewhere)).isTrue();
+        assertThat(articleIdFilterService.mightExist(unknown)).isFalse();
+        assertThat(articleIdFilterService.mightExist(createdElsewhere)).isTrue();
+        verify(articleRepository).existsById(createdElsewhere);
+        verify(articleRepository).existsById(unknown);
+    }
+
+    private static UUID timeOrderedId(Instant createdAt, long random) {
+        return new UUID(createdAt.toEpochMilli() << 16 | 0x7000L, 0x8000_0000_0000_0000L | random);
+    }
+}